@@ -0,0 +1,162 @@
+package org.example.expert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+// 기동 시간 비교 : 프로세스 시작 ~ 첫 HTTP 응답까지 (ms)
+// - DEFAULT : 추출한 jar 그대로
+// - CDS     : + -XX:SharedArchiveFile=application.jsa
+// - AOT     : + -Dspring.aot.enabled=true
+// - AOT_CDS : AOT + application-aot.jsa
+// 준비 : ./gradlew cdsArchive -Paot   (build/cds/app 에 jar, lib/, *.jsa 생성)
+// 실행 : ./gradlew jmh -Pjmh.includes=StartupBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String AOT_INITIALIZER = "org/example/expert/ExpertApplication__ApplicationContextInitializer.class";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+    public enum StartupMode {
+        DEFAULT(false, null),
+        CDS(false, "application.jsa"),
+        AOT(true, null),
+        AOT_CDS(true, "application-aot.jsa");
+
+        private final boolean aot;
+        private final String archive;
+
+        StartupMode(boolean aot, String archive) {
+            this.aot = aot;
+            this.archive = archive;
+        }
+    }
+
+    @Param({"DEFAULT", "CDS", "AOT", "AOT_CDS"})
+    private StartupMode mode;
+
+    private Path appDir;
+    private Path appJar;
+    private String javaExecutable;
+    private HttpClient httpClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        appDir = Path.of(System.getProperty("bench.app-dir", "build/cds/app")).toAbsolutePath();
+        try (Stream<Path> files = Files.list(appDir)) {
+            appJar = files.filter(file -> file.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException(appDir + " 에 jar 없음 -> ./gradlew cdsArchive -Paot 먼저 실행"));
+        }
+        if (mode.archive != null && !Files.exists(appDir.resolve(mode.archive))) {
+            throw new IllegalStateException(mode.archive + " 없음 -> ./gradlew cdsArchive -Paot 먼저 실행");
+        }
+        if (mode.aot) {
+            try (ZipFile jar = new ZipFile(appJar.toFile())) {
+                if (jar.getEntry("BOOT-INF/classes/" + AOT_INITIALIZER) == null && jar.getEntry(AOT_INITIALIZER) == null) {
+                    throw new IllegalStateException("AOT 코드 없는 jar -> ./gradlew cdsArchive -Paot 로 다시 빌드");
+                }
+            }
+        }
+        // 벤치마크 JVM 과 같은 Java 21
+        javaExecutable = ProcessHandle.current().info().command().orElse("java");
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    }
+
+    @Benchmark
+    public long timeToFirstResponse() throws IOException, InterruptedException {
+        int port = freePort();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command(port))
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            waitForFirstResponse(process, port, start);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private List<String> command(int port) {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable);
+        if (mode.archive != null) {
+            command.add("-XX:SharedArchiveFile=" + mode.archive);
+        }
+        if (mode.aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of(
+                "-jar", appJar.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.web=WARN"
+        ));
+        return command;
+    }
+
+    // 상태 코드 상관없이 응답이 오면 요청 처리 가능 상태로 판단
+    private void waitForFirstResponse(Process process, int port, long start) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/signin"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션 기동 실패 (exit=" + process.exitValue() + ", mode=" + mode + ")");
+            }
+            try {
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                // 아직 포트 열리기 전 (ConnectException 등)
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException("기동 시간 초과: " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
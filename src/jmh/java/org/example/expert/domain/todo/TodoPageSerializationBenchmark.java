@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /todos 응답 직렬화 비교
+// - pageImpl              : Page(PageImpl) 그대로 (Pageable/Sort 포함, 예전 DIRECT 모드)
+// - pagedModel            : Spring Data VIA_DTO 모드 (PagedModel)
+// - pageResponse          : PageResponse 봉투
+// - pageResponseBlackbird : PageResponse + Blackbird 모듈 (현재 애플리케이션 설정)
+// 응답 크기(bytes)는 Setup 에서 출력
+// 실행 : ./gradlew jmh -Pjmh.includes=TodoPageSerializationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper blackbirdObjectMapper;
+    private Page<TodoResponse> page;
+    private PagedModel<TodoResponse> pagedModel;
+    private PageResponse<TodoResponse> pageResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        objectMapper = newObjectMapper();
+        blackbirdObjectMapper = newObjectMapper().registerModule(new BlackbirdModule());
+
+        List<TodoResponse> content = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new TodoResponse((long) i, "title " + i, "contents of todo " + i, "Sunny",
+                    new UserResponse((long) i, "user" + i + "@test.com"), now, now));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000L);
+        pagedModel = new PagedModel<>(page);
+        pageResponse = PageResponse.from(page);
+
+        System.out.printf("%n[payload bytes, pageSize=%d] pageImpl=%d, pagedModel=%d, pageResponse=%d%n",
+                pageSize, size(page), size(pagedModel), size(pageResponse));
+    }
+
+    @Benchmark
+    public byte[] pageImpl() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pagedModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    @Benchmark
+    public byte[] pageResponseBlackbird() throws JsonProcessingException {
+        return blackbirdObjectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    private int size(Object value) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    // Spring Boot 기본 설정과 같게 (날짜 -> ISO 문자열)
+    private static ObjectMapper newObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 블로킹(JPA) vs 반응형(R2DBC) 읽기 경로 : 할 일 목록 처리량 비교
+// - blocking : GET /todos (TodoController.getTodos), reactive : GET /reactive/todos (NDJSON)
+// - Tomcat 최대 스레드를 50 으로 낮추고 클라이언트 200 개가 동시에 요청
+// - 1페이지 응답 캐시는 끔 -> 두 경로 모두 매 요청 조회 + 직렬화
+// - 같은 JVM 의 H2 인메모리 DB 를 JDBC / R2DBC 로 읽음 (r2dbc-h2 는 내장 DB 호출이라 네트워크 대기 없음)
+// 실행 : ./gradlew jmh -Pjmh.includes=TodoReadPathBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(200)
+public class TodoReadPathBenchmark {
+
+    private static final Pattern BEARER_TOKEN = Pattern.compile("\"bearerToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Param({"blocking", "reactive"})
+    private String path;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI listUri;
+    private String bearerToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        String databaseName = "read-path-bench-" + path;
+        context = BenchmarkApplication.start(
+                databaseName,
+                "--server.tomcat.threads.max=50",
+                "--todo.list-cache.enabled=false",
+                "--reactive-read.enabled=true",
+                "--reactive-read.url=r2dbc:h2:mem:///" + databaseName + "?options=DB_CLOSE_DELAY=-1",
+                "--reactive-read.username=sa",
+                "--reactive-read.password=",
+                "--reactive-read.max-pool-size=50"
+        );
+        String baseUrl = BenchmarkApplication.baseUrl(context);
+        listUri = URI.create(baseUrl + ("reactive".equals(path) ? "/reactive/todos" : "/todos") + "?page=1&size=10");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        HttpResponse<String> signup = post(baseUrl + "/auth/signup", null,
+                "{\"email\":\"bench@test.com\",\"password\":\"Bench1234\",\"userRole\":\"ROLE_USER\",\"nickname\":\"bench\"}");
+        Matcher matcher = BEARER_TOKEN.matcher(signup.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("signup failed: " + signup.body());
+        }
+        bearerToken = matcher.group(1);
+
+        for (int i = 0; i < 100; i++) {
+            post(baseUrl + "/todos", bearerToken, "{\"title\":\"bench\",\"contents\":\"read path benchmark\"}");
+        }
+        int status = listTodos();
+        if (status != 200) {
+            throw new IllegalStateException(path + " list returned " + status);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 본문을 끝까지 읽어야 스트림 응답이 끝난 시점까지 측정됨
+    @Benchmark
+    public int listTodos() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(listUri)
+                .header("Authorization", bearerToken)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+
+    private HttpResponse<String> post(String url, String authorization, String json)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
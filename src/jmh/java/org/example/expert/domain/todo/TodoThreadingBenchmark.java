@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 플랫폼 스레드 vs 가상 스레드 : /todos 읽기/쓰기 처리량 비교
+// - Tomcat 최대 스레드를 50 으로 낮추고 클라이언트 200 개가 동시에 요청
+// - POST /todos 는 날씨 API 스텁이 20ms 블로킹 (bench.weather-latency-ms 로 변경 가능)
+// - -Djdk.tracePinnedThreads=short : 가상 스레드가 synchronized 에 고정되면 스택 출력
+// 실행 : ./gradlew jmh -Pjmh.includes=TodoThreadingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@Threads(200)
+public class TodoThreadingBenchmark {
+
+    private static final Pattern BEARER_TOKEN = Pattern.compile("\"bearerToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String bearerToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = BenchmarkApplication.start(
+                "threading-bench-" + virtualThreads,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=50"
+        );
+        baseUrl = BenchmarkApplication.baseUrl(context);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        HttpResponse<String> signup = post("/auth/signup", null,
+                "{\"email\":\"bench@test.com\",\"password\":\"Bench1234\",\"userRole\":\"ROLE_USER\",\"nickname\":\"bench\"}");
+        Matcher matcher = BEARER_TOKEN.matcher(signup.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("signup failed: " + signup.body());
+        }
+        bearerToken = matcher.group(1);
+
+        // 읽기 벤치마크용 초기 데이터
+        for (int i = 0; i < 100; i++) {
+            writeTodo();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readTodos() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/todos?page=1&size=10"))
+                .header("Authorization", bearerToken)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int writeTodo() throws IOException, InterruptedException {
+        return post("/todos", bearerToken, "{\"title\":\"bench\",\"contents\":\"threading benchmark\"}").statusCode();
+    }
+
+    private HttpResponse<String> post(String path, String authorization, String json)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
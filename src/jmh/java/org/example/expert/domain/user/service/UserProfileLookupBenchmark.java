@@ -0,0 +1,96 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /users/{userId} 조회 경로 비교
+// - entityLookup     : 기존 방식 (findById 로 User 전체 로딩 후 DTO 변환, 매번 트랜잭션)
+// - projectionLookup : id, email 프로젝션 쿼리만 (캐시 x)
+// - cachedLookup     : UserService.getUser (프로필 캐시 + 프로젝션)
+// 실행 : ./gradlew jmh -Pjmh.includes=UserProfileLookupBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class UserProfileLookupBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+    // 조회 요청의 대부분이 일부 유저에 몰리는 상황 (상위 1,000명)
+    private static final int HOT_USER_COUNT = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserService userService;
+    private TransactionTemplate readOnlyTransaction;
+    private long firstUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("profile-bench");
+        userRepository = context.getBean(UserRepository.class);
+        userService = context.getBean(UserService.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<User> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new User("bench" + i + "@test.com", "$2a$10$benchmarkPasswordHashPlaceholder", UserRole.ROLE_USER, "bench" + i));
+        }
+        firstUserId = userRepository.saveAll(users).get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponse entityLookup() {
+        long userId = nextUserId();
+        return readOnlyTransaction.execute(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            return new UserResponse(user.getId(), user.getEmail());
+        });
+    }
+
+    @Benchmark
+    public UserResponse projectionLookup() {
+        return userRepository.findProfileById(nextUserId()).orElseThrow();
+    }
+
+    @Benchmark
+    public UserResponse cachedLookup() {
+        return userService.getUser(nextUserId());
+    }
+
+    private long nextUserId() {
+        return firstUserId + ThreadLocalRandom.current().nextInt(HOT_USER_COUNT);
+    }
+}
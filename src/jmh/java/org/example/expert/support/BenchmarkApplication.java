@@ -0,0 +1,70 @@
+package org.example.expert.support;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.client.WeatherClient;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 애플리케이션 기동 헬퍼
+// - H2 인메모리 DB (MySQL 모드는 동시 INSERT 시 IDENTITY 값이 중복 발급되는 문제가 있어 기본 모드 사용), 랜덤 포트, 요청 수 제한 off
+// - 외부 날씨 API 대신 고정 지연(bench.weather-latency-ms, 기본 20ms) 후 "Sunny" 반환하는 스텁 사용
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    // application.yml 보다 우선하도록 커맨드라인 인자로 전달
+    public static ConfigurableApplicationContext start(String databaseName, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                // 마이그레이션 SQL 은 MySQL 문법 -> 기본 모드 H2 에서는 엔티티로 테이블 생성
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                // 요약 테이블 갱신 쿼리(ON DUPLICATE KEY UPDATE)는 MySQL 전용
+                "--todo.daily-stats.enabled=false",
+                "--rate-limit.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.web=WARN"
+        ));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(ExpertApplication.class, StubWeatherConfig.class)
+                .run(args.toArray(String[]::new));
+    }
+
+    public static String baseUrl(ConfigurableApplicationContext context) {
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    // 컴포넌트 스캔 대상이 되지 않도록 @Configuration 없이 소스 클래스로만 등록
+    static class StubWeatherConfig {
+
+        @Bean
+        @Primary
+        WeatherClient stubWeatherClient(RestTemplateBuilder builder) {
+            long latencyMillis = Long.getLong("bench.weather-latency-ms", 20L);
+            return new WeatherClient(builder, false) {
+                @Override
+                public String getTodayWeather() {
+                    try {
+                        Thread.sleep(latencyMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "Sunny";
+                }
+            };
+        }
+    }
+}
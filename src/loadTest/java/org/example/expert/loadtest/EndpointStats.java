@@ -0,0 +1,67 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.aop.latency.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트 하나의 측정 결과
+// - 응답 시간 : 성공(2xx) 응답만 히스토그램에 기록, 실패(4xx/5xx, 연결 오류)는 errors 로만 집계
+// - 처리량 : 첫 요청 시작 ~ 마지막 응답 완료 구간 기준 (단계마다 실행 구간이 달라 전체 시간으로 나누지 않음)
+class EndpointStats {
+
+    private final String name;
+    private final LatencyHistogram histogram;
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEndNanos = new AtomicLong(Long.MIN_VALUE);
+
+    EndpointStats(String name, int stripeCount) {
+        this.name = name;
+        this.histogram = new LatencyHistogram(name, stripeCount);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void record(long startNanos, long endNanos, boolean success) {
+        firstStartNanos.accumulateAndGet(startNanos, Math::min);
+        lastEndNanos.accumulateAndGet(endNanos, Math::max);
+        if (success) {
+            histogram.recordNanos(endNanos - startNanos);
+        } else {
+            errors.increment();
+        }
+    }
+
+    // 빌드 간 diff 가 쉽도록 필드 순서 고정, 시간 값은 ms (소수 셋째 자리)
+    Map<String, Object> toReport() {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        long count = snapshot.getTotalCount();
+        long errorCount = errors.sum();
+        double elapsedSeconds = count + errorCount == 0
+                ? 0 : (lastEndNanos.get() - firstStartNanos.get()) / 1_000_000_000.0;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", count + errorCount);
+        report.put("errors", errorCount);
+        report.put("throughputPerSec", elapsedSeconds == 0 ? 0.0 : round((count + errorCount) / elapsedSeconds));
+        report.put("meanMs", round(snapshot.getMeanMicros() / 1000.0));
+        report.put("p50Ms", millis(snapshot.valueAtPercentile(50)));
+        report.put("p90Ms", millis(snapshot.valueAtPercentile(90)));
+        report.put("p99Ms", millis(snapshot.valueAtPercentile(99)));
+        report.put("maxMs", millis(snapshot.getMaxMicros()));
+        return report;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,234 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 전체 앱(H2)을 띄우고 동시 클라이언트로 실제 사용 흐름을 반복 실행하는 부하 테스트
+// - 클라이언트마다 : 회원가입 -> 로그인 -> (할일 생성 -> 댓글 작성 -> 할일 목록 조회) x 반복
+// - 워밍업 반복은 기록하지 않고, 모든 클라이언트의 워밍업이 끝난 뒤 측정 구간을 동시에 시작
+// - 결과 : 엔드포인트별 처리량, p50/p90/p99 응답 시간 -> JSON (빌드 간 diff 용, 시각 등 매번 바뀌는 값 없음) + 콘솔 표
+// - 오류율이 loadtest.max-error-rate 를 넘으면 종료 코드 1
+// 실행 : ./gradlew loadTest -Ploadtest.clients=100 -Ploadtest.iterations=50
+public final class LoadTestRunner {
+
+    private static final String SIGNUP = "POST /auth/signup";
+    private static final String SIGNIN = "POST /auth/signin";
+    private static final String CREATE_TODO = "POST /todos";
+    private static final String CREATE_COMMENT = "POST /todos/{todoId}/comments";
+    private static final String LIST_TODOS = "GET /todos";
+    private static final String PASSWORD = "LoadTest1234";
+
+    private final int clients = Integer.getInteger("loadtest.clients", 50);
+    private final int iterations = Integer.getInteger("loadtest.iterations", 20);
+    private final int warmupIterations = Integer.getInteger("loadtest.warmup-iterations", 3);
+    private final boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+    private final long weatherLatencyMillis = Long.getLong("loadtest.weather-latency-ms", 20L);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0"));
+    private final Path reportPath = Path.of(System.getProperty("loadtest.report", "build/reports/load-test/report.json"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    // 보고서 순서 = 흐름 순서
+    private final Map<String, EndpointStats> endpoints = new LinkedHashMap<>();
+    private final AtomicInteger abortedClients = new AtomicInteger();
+    private String baseUrl;
+
+    private LoadTestRunner() {
+        for (String name : List.of(SIGNUP, SIGNIN, CREATE_TODO, CREATE_COMMENT, LIST_TODOS)) {
+            endpoints.put(name, new EndpointStats(name, clients));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean passed = new LoadTestRunner().run();
+        // 컨텍스트 종료 후에도 남는 non-daemon 스레드(HttpClient 등)가 있어 명시적으로 종료
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        Map<String, Object> totals;
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(virtualThreads)) {
+            baseUrl = LoadTestApplication.baseUrl(context);
+            totals = drive();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config());
+        report.put("totals", totals);
+        Map<String, Object> endpointReports = new LinkedHashMap<>();
+        endpoints.forEach((name, stats) -> endpointReports.put(name, stats.toReport()));
+        report.put("endpoints", endpointReports);
+
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.writeValue(reportPath.toFile(), report);
+        printTable(endpointReports);
+        System.out.println("report : " + reportPath.toAbsolutePath());
+
+        double errorRate = (double) totals.get("errorRate");
+        if (errorRate > maxErrorRate) {
+            System.err.printf("error rate %.4f exceeds loadtest.max-error-rate %.4f%n", errorRate, maxErrorRate);
+            return false;
+        }
+        return true;
+    }
+
+    // 클라이언트 1개 = 플랫폼 스레드 1개 (서버 쪽 스레드 모델과 무관하게 동일한 부하)
+    private Map<String, Object> drive() throws InterruptedException {
+        Phaser warmedUp = new Phaser(clients + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            int clientIndex = i;
+            executor.execute(() -> runClient(clientIndex, warmedUp));
+        }
+
+        warmedUp.arriveAndAwaitAdvance();
+        long measureStart = System.nanoTime();
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+            throw new IllegalStateException("load test did not finish within 30 minutes");
+        }
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+
+        long requests = 0;
+        long errors = 0;
+        for (EndpointStats stats : endpoints.values()) {
+            Map<String, Object> endpointReport = stats.toReport();
+            requests += (long) endpointReport.get("requests");
+            errors += (long) endpointReport.get("errors");
+        }
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("requests", requests);
+        totals.put("errors", errors);
+        totals.put("errorRate", requests == 0 ? 0.0 : Math.round((double) errors / requests * 10_000) / 10_000.0);
+        totals.put("abortedClients", abortedClients.get());
+        totals.put("measuredSeconds", Math.round(elapsedSeconds * 1000) / 1000.0);
+        return totals;
+    }
+
+    private void runClient(int clientIndex, Phaser warmedUp) {
+        String bearerToken;
+        try {
+            bearerToken = signUpAndSignIn(clientIndex);
+            for (int i = 0; i < warmupIterations; i++) {
+                iterate(bearerToken, false);
+            }
+        } catch (RuntimeException e) {
+            // 가입/로그인 실패 -> 오류로 집계된 상태, 측정 구간에서 빠짐
+            abortedClients.incrementAndGet();
+            warmedUp.arriveAndDeregister();
+            return;
+        }
+
+        warmedUp.arriveAndAwaitAdvance();
+        for (int i = 0; i < iterations; i++) {
+            iterate(bearerToken, true);
+        }
+    }
+
+    private String signUpAndSignIn(int clientIndex) {
+        String email = "load" + clientIndex + "@test.com";
+        post(SIGNUP, "/auth/signup", null, true,
+                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"userRole\":\"ROLE_USER\",\"nickname\":\"load" + clientIndex + "\"}");
+        JsonNode signin = post(SIGNIN, "/auth/signin", null, true,
+                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+        if (signin == null) {
+            throw new IllegalStateException("signin failed : " + email);
+        }
+        return signin.get("bearerToken").asText();
+    }
+
+    private void iterate(String bearerToken, boolean measured) {
+        JsonNode todo = post(CREATE_TODO, "/todos", bearerToken, measured,
+                "{\"title\":\"load test\",\"contents\":\"load test todo\"}");
+        if (todo != null) {
+            post(CREATE_COMMENT, "/todos/" + todo.get("id").asLong() + "/comments", bearerToken, measured,
+                    "{\"contents\":\"load test comment\"}");
+        }
+        send(LIST_TODOS, HttpRequest.newBuilder(URI.create(baseUrl + "/todos?page=1&size=10"))
+                .header("Authorization", bearerToken)
+                .GET(), measured);
+    }
+
+    private JsonNode post(String endpoint, String path, String authorization, boolean measured, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return send(endpoint, builder, measured);
+    }
+
+    // 성공(2xx)이면 응답 본문, 실패면 null
+    private JsonNode send(String endpoint, HttpRequest.Builder builder, boolean measured) {
+        HttpRequest request = builder.timeout(Duration.ofSeconds(30)).build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // 연결 실패, 타임아웃 -> 오류로 집계
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long end = System.nanoTime();
+
+        boolean success = response != null && response.statusCode() / 100 == 2;
+        if (measured) {
+            endpoints.get(endpoint).record(start, end, success);
+        }
+        if (!success) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(endpoint + " returned invalid json", e);
+        }
+    }
+
+    private Map<String, Object> config() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("clients", clients);
+        config.put("iterations", iterations);
+        config.put("warmupIterations", warmupIterations);
+        config.put("virtualThreads", virtualThreads);
+        config.put("weatherLatencyMs", weatherLatencyMillis);
+        return config;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printTable(Map<String, Object> endpointReports) {
+        System.out.printf("%-32s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        endpointReports.forEach((name, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            System.out.printf("%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, row.get("requests"), row.get("errors"), row.get("throughputPerSec"),
+                    row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("maxMs"));
+        });
+    }
+}
@@ -2,36 +2,94 @@ package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.example.expert.domain.audit.service.AdminAuditEvent;
+import org.example.expert.domain.audit.service.AdminAuditWriter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRolesChangeResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
-@Slf4j
 @Aspect    // AOP 선언! -> 여러 Advice / Pointcut 담는 모듈
 @Component
 @RequiredArgsConstructor
 public class AdminAccessLoggingAspect {
 
     private final HttpServletRequest request;
+    private final AdminAuditWriter adminAuditWriter;
 
     // [1-5] AOP 수정 완료
     // - @After -> @Before : changeUserRole() 메서드 실행 전 동작 완료
     // - 메서드명 수정 (AOP 의도에 맞도록 Before로 수정)
-    @Before("execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
+    @Before("execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..)) && args(userId, userRoleChangeRequest)")
     // @Before : 어드바이스 -> AOP 의 핵심 역할!
     // execution : Pointcut -> 어떤 메서드 실행 시점에 적용할지 지정하는 부분
-    public void logBeforeChangeUserRole(JoinPoint joinPoint) {
+    // args : 대상 메서드 인자를 어드바이스 파라미터로 바인딩
+    public void logBeforeChangeUserRole(JoinPoint joinPoint, long userId, UserRoleChangeRequest userRoleChangeRequest) {
     // -> 실제 실행될 부가 기능(로깅 로직)
     // JoinPoint : 현재 실행 중인 메서드의 시그니처/인자 정보 접근 가능
-        String userId = String.valueOf(request.getAttribute("userId"));
-        String requestUrl = request.getRequestURI();
-        LocalDateTime requestTime = LocalDateTime.now();
 
-        log.info("Admin Access Log - User ID: {}, Request Time: {}, Request URL: {}, Method: {}",
-                userId, requestTime, requestUrl, joinPoint.getSignature().getName());
+        // 요청 속성(userId)은 JwtAuthenticationFilter 가 넣지 않음
+        // -> SecurityContext 의 인증 정보(AuthUser)에서 관리자 식별
+        AuthUser admin = currentAuthUser();
+        if (admin == null) {
+            return;
+        }
+
+        // DB 저장은 백그라운드에서 배치로 처리 -> 요청 스레드는 버퍼에 넣고 바로 진행
+        adminAuditWriter.record(new AdminAuditEvent(
+                admin.getId(),
+                admin.getEmail(),
+                joinPoint.getSignature().getName(),
+                request.getMethod(),
+                request.getRequestURI(),
+                userId,
+                "role=" + userRoleChangeRequest.getRole(),
+                LocalDateTime.now()
+        ));
+    }
+
+    // 일괄 권한 변경 : 실제로 변경된 유저마다 이벤트 1건 (단건 변경과 같은 형태로 조회되도록)
+    // -> 대상이 응답에서 확정되므로 @Before 대신 @AfterReturning (실패한 요청은 기록 x)
+    @AfterReturning(
+            pointcut = "execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRoles(..))",
+            returning = "response"
+    )
+    public void logAfterChangeUserRoles(JoinPoint joinPoint, ResponseEntity<UserRolesChangeResponse> response) {
+        AuthUser admin = currentAuthUser();
+        UserRolesChangeResponse result = response.getBody();
+        if (admin == null || result == null) {
+            return;
+        }
+
+        LocalDateTime occurredAt = LocalDateTime.now();
+        for (Long userId : result.getChangedUserIds()) {
+            adminAuditWriter.record(new AdminAuditEvent(
+                    admin.getId(),
+                    admin.getEmail(),
+                    joinPoint.getSignature().getName(),
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    userId,
+                    "role=" + result.getRole(),
+                    occurredAt
+            ));
+        }
+    }
+
+    private AuthUser currentAuthUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser;
+        }
+        return null;
     }
 }
@@ -0,0 +1,26 @@
+package org.example.expert.aop;
+
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+
+// 프록시 클래스 -> 사람이 읽을 이름
+// 리포지토리(JDK 프록시)는 우리 인터페이스 이름, 그 외(CGLIB)는 원래 클래스 이름
+public final class AopNames {
+
+    private static final String BASE_PACKAGE = "org.example.expert";
+
+    private AopNames() {
+    }
+
+    public static String beanName(Class<?> beanClass) {
+        if (Proxy.isProxyClass(beanClass)) {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(beanClass)) {
+                if (candidate.getName().startsWith(BASE_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(beanClass).getSimpleName();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.aop;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.idempotency.service.IdempotencyStore;
+import org.example.expert.domain.idempotency.service.StoredResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+// @Idempotent 컨트롤러 메서드 : Idempotency-Key 헤더별로 한 번만 실행
+// - 키는 유저별로 구분 (다른 유저가 같은 키를 보내도 서로 영향 없음)
+// - 재요청 응답에는 Idempotent-Replayed: true 헤더 추가
+// - 재요청 본문은 저장된 JSON 을 JsonNode 로 그대로 반환 (응답 DTO 로 역직렬화하지 않음)
+// - 헤더가 없거나 인증 정보가 없으면 그대로 실행
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final HttpServletRequest request;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Around("@annotation(org.example.expert.aop.Idempotent)")
+    public Object idempotent(ProceedingJoinPoint joinPoint) throws Throwable {
+        String idempotencyKey = request.getHeader(HEADER);
+        AuthUser authUser = currentAuthUser();
+        if (idempotencyKey == null || authUser == null) {
+            return joinPoint.proceed();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(HEADER + " 는 1 ~ " + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        return idempotencyStore.execute(
+                authUser.getId(),
+                idempotencyKey,
+                requestHash(joinPoint.getArgs()),
+                () -> (ResponseEntity<?>) joinPoint.proceed(),
+                this::record,
+                this::replay
+        );
+    }
+
+    // 메서드 + URI(경로 변수 포함) + 인증 정보를 뺀 인자(요청 본문)
+    private String requestHash(Object[] args) throws JsonProcessingException {
+        List<Object> body = new ArrayList<>();
+        for (Object arg : args) {
+            if (!(arg instanceof AuthUser)) {
+                body.add(arg);
+            }
+        }
+        String fingerprint = request.getMethod() + " " + request.getRequestURI() + "\n" + objectMapper.writeValueAsString(body);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StoredResponse record(ResponseEntity<?> response) {
+        try {
+            return new StoredResponse(response.getStatusCode().value(), objectMapper.writeValueAsString(response.getBody()));
+        } catch (JsonProcessingException e) {
+            // 저장할 수 없는 응답 -> 저장하지 않고 그대로 반환 (키 반납)
+            return new StoredResponse(response.getStatusCode().value(), null);
+        }
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored) {
+        try {
+            return ResponseEntity.status(stored.getStatus())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readTree(stored.getBody()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private AuthUser currentAuthUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser;
+        }
+        return null;
+    }
+}
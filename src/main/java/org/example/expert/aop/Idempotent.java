@@ -0,0 +1,13 @@
+package org.example.expert.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Idempotency-Key 헤더가 있으면 같은 키의 재요청에 처음 응답을 그대로 반환 (IdempotencyAspect)
+// 반환 타입이 ResponseEntity 인 컨트롤러 메서드에만 사용
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,38 @@
+package org.example.expert.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.aop.latency.LatencyRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 컨트롤러 / *Service / 리포지토리 메서드 응답 시간 측정 -> GET /admin/latencies
+// 예외로 끝난 호출도 포함
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "latency.enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyTimingAspect {
+
+    private final LatencyRegistry latencyRegistry;
+
+    @Around("within(org.example.expert.domain..controller..*)"
+            + " || execution(* org.example.expert.domain..service.*Service.*(..))"
+            + " || within(org.example.expert.domain..repository..*)"
+            + " || execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            latencyRegistry.histogram(
+                    joinPoint.getThis().getClass(),
+                    ((MethodSignature) joinPoint.getSignature()).getMethod()
+            ).recordNanos(elapsed);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.aop;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// 현재 스레드에서 실행 중인 리포지토리 메서드 기록
+// -> 느린 쿼리가 어느 리포지토리 메서드에서 나왔는지 표시 (SlowQueryListener)
+@Aspect
+@Component
+public class RepositoryCallTrackingAspect {
+
+    private static final ThreadLocal<JoinPoint> CURRENT = new ThreadLocal<>();
+
+    @Around("within(org.example.expert.domain..repository..*)"
+            + " || execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        JoinPoint previous = CURRENT.get();
+        CURRENT.set(joinPoint);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // 가상 스레드/스레드 풀 재사용 시 남지 않도록 바깥 호출이 끝나면 제거
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    // ex. "TodoRepository.findByWeather" (리포지토리 밖에서 실행된 쿼리면 null)
+    public static String currentRepositoryMethod() {
+        JoinPoint joinPoint = CURRENT.get();
+        if (joinPoint == null) {
+            return null;
+        }
+        return AopNames.beanName(joinPoint.getThis().getClass()) + "." + joinPoint.getSignature().getName();
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.aop.latency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class LatencyController {
+
+    private final LatencyRegistry latencyRegistry;
+
+    // interval=true : 직전 interval 조회 이후 구간만
+    @GetMapping("/admin/latencies")
+    public ResponseEntity<List<LatencyStatsResponse>> getLatencies(
+            @RequestParam(defaultValue = "false") boolean interval
+    ) {
+        return ResponseEntity.ok(latencyRegistry.getStats(interval));
+    }
+
+    @DeleteMapping("/admin/latencies")
+    public ResponseEntity<Void> reset() {
+        latencyRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
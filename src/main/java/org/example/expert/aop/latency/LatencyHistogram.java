@@ -0,0 +1,189 @@
+package org.example.expert.aop.latency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 메서드 하나의 응답 시간 분포 (HdrHistogram 과 같은 로그-선형 버킷, 마이크로초 단위)
+// - 2의 거듭제곱 구간마다 32칸으로 나눔 -> 상대 오차 약 3%, 최대 약 134초까지 구분
+// - 기록 : 스레드 id 로 고른 stripe 의 배열 칸 하나 증가 -> 객체 생성 없음, 스레드 간 경합 분산
+//   (ThreadLocal 기록기는 가상 스레드 모드에서 요청마다 새로 생겨 쌓이므로 stripe 로 대체)
+// - 조회 : stripe 들을 합친 뒤 기준점(reset / 직전 interval 조회)과의 차이로 계산
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // 2^27 µs ≈ 134초 이상은 마지막 칸에 기록
+    static final int MAX_MAGNITUDE = 27;
+    static final long MAX_TRACKABLE_MICROS = (1L << MAX_MAGNITUDE) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final String name;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private long[] resetBaseline = new long[BUCKET_COUNT];
+    private long resetBaselineSum;
+    private long[] intervalBaseline = new long[BUCKET_COUNT];
+    private long intervalBaselineSum;
+
+    public LatencyHistogram(String name, int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount) * 2 - 1);
+        this.name = name;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordNanos(long nanos) {
+        long micros = Math.min(Math.max(0L, nanos / 1_000L), MAX_TRACKABLE_MICROS);
+        Stripe stripe = stripes[(int) (Thread.currentThread().threadId() & stripeMask)];
+        stripe.counts.incrementAndGet(indexOf(micros));
+        stripe.sumMicros.addAndGet(micros);
+    }
+
+    // reset 이후 누적 분포
+    public Snapshot snapshot() {
+        snapshotLock.lock();
+        try {
+            long[] current = new long[BUCKET_COUNT];
+            long currentSum = merge(current);
+            return Snapshot.between(current, currentSum, resetBaseline, resetBaselineSum);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // 직전 interval 조회 이후 분포 (조회할 때마다 기준점 이동)
+    public Snapshot intervalSnapshot() {
+        snapshotLock.lock();
+        try {
+            long[] current = new long[BUCKET_COUNT];
+            long currentSum = merge(current);
+            Snapshot snapshot = Snapshot.between(current, currentSum, intervalBaseline, intervalBaselineSum);
+            intervalBaseline = current;
+            intervalBaselineSum = currentSum;
+            return snapshot;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // 카운터를 0 으로 지우는 대신 기준점을 현재 값으로 이동 -> 기록 중인 스레드와 경합 없음
+    public void reset() {
+        snapshotLock.lock();
+        try {
+            long[] current = new long[BUCKET_COUNT];
+            long currentSum = merge(current);
+            resetBaseline = current;
+            resetBaselineSum = currentSum;
+            intervalBaseline = current;
+            intervalBaselineSum = currentSum;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private long merge(long[] target) {
+        long sum = 0L;
+        for (Stripe stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                target[i] += stripe.counts.get(i);
+            }
+            sum += stripe.sumMicros.get();
+        }
+        return sum;
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> magnitude) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + magnitude * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    // 해당 칸에 들어가는 가장 큰 값
+    static long highestEquivalentMicros(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int magnitude = offset / SUB_BUCKET_COUNT;
+        long subBucket = SUB_BUCKET_COUNT + offset % SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+
+    private static final class Stripe {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong sumMicros = new AtomicLong();
+    }
+
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long totalCount;
+        private final long sumMicros;
+
+        private Snapshot(long[] counts, long totalCount, long sumMicros) {
+            this.counts = counts;
+            this.totalCount = totalCount;
+            this.sumMicros = sumMicros;
+        }
+
+        static Snapshot between(long[] current, long currentSum, long[] baseline, long baselineSum) {
+            long[] counts = new long[BUCKET_COUNT];
+            long total = 0L;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] = current[i] - baseline[i];
+                total += counts[i];
+            }
+            return new Snapshot(counts, total, currentSum - baselineSum);
+        }
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public long getSumMicros() {
+            return sumMicros;
+        }
+
+        public double getMeanMicros() {
+            return totalCount == 0 ? 0.0 : (double) sumMicros / totalCount;
+        }
+
+        // percentile : 0 ~ 100 (ex. 99.9)
+        public long valueAtPercentile(double percentile) {
+            if (totalCount == 0) {
+                return 0L;
+            }
+            long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+            long seen = 0L;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return highestEquivalentMicros(i);
+                }
+            }
+            return highestEquivalentMicros(BUCKET_COUNT - 1);
+        }
+
+        public long getMaxMicros() {
+            for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return highestEquivalentMicros(i);
+                }
+            }
+            return 0L;
+        }
+    }
+}
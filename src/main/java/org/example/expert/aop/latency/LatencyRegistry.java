@@ -0,0 +1,48 @@
+package org.example.expert.aop.latency;
+
+import org.example.expert.aop.AopNames;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 빈(프록시 클래스) + 메서드별 히스토그램 보관
+// 첫 호출 이후에는 get() 만 타므로 기록 경로에서 객체 생성 없음
+@Component
+public class LatencyRegistry {
+
+    private final int stripeCount = Runtime.getRuntime().availableProcessors();
+    private final Map<Class<?>, Map<Method, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogram(Class<?> beanClass, Method method) {
+        Map<Method, LatencyHistogram> byMethod = histograms.get(beanClass);
+        if (byMethod == null) {
+            byMethod = histograms.computeIfAbsent(beanClass, k -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = byMethod.get(method);
+        if (histogram == null) {
+            histogram = byMethod.computeIfAbsent(method,
+                    m -> new LatencyHistogram(AopNames.beanName(beanClass) + "." + m.getName(), stripeCount));
+        }
+        return histogram;
+    }
+
+    public List<LatencyStatsResponse> getStats(boolean interval) {
+        return histograms.values().stream()
+                .flatMap(byMethod -> byMethod.values().stream())
+                .map(histogram -> LatencyStatsResponse.of(
+                        histogram.getName(),
+                        interval ? histogram.intervalSnapshot() : histogram.snapshot()))
+                .filter(stats -> stats.getCount() > 0)
+                // 총 소요 시간이 큰 순서 -> 시간이 어디에 쓰이는지 바로 확인
+                .sorted(Comparator.comparingDouble(LatencyStatsResponse::getTotalMs).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        histograms.values().forEach(byMethod -> byMethod.values().forEach(LatencyHistogram::reset));
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.aop.latency;
+
+import lombok.Getter;
+
+@Getter
+public class LatencyStatsResponse {
+
+    private final String method;
+    private final long count;
+    private final double totalMs;
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+
+    public LatencyStatsResponse(String method, long count, double totalMs, double meanMs,
+                                double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+        this.method = method;
+        this.count = count;
+        this.totalMs = totalMs;
+        this.meanMs = meanMs;
+        this.p50Ms = p50Ms;
+        this.p99Ms = p99Ms;
+        this.p999Ms = p999Ms;
+        this.maxMs = maxMs;
+    }
+
+    static LatencyStatsResponse of(String method, LatencyHistogram.Snapshot snapshot) {
+        return new LatencyStatsResponse(
+                method,
+                snapshot.getTotalCount(),
+                toMillis(snapshot.getSumMicros()),
+                snapshot.getMeanMicros() / 1_000.0,
+                toMillis(snapshot.valueAtPercentile(50.0)),
+                toMillis(snapshot.valueAtPercentile(99.0)),
+                toMillis(snapshot.valueAtPercentile(99.9)),
+                toMillis(snapshot.getMaxMicros())
+        );
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000.0;
+    }
+}
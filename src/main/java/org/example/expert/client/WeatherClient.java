@@ -2,24 +2,43 @@ package org.example.expert.client;
 
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
 
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // JDK HttpClient 기반 RestTemplate
+    // -> 블로킹 호출이 가상 스레드를 고정(pinning)하지 않음
+    // 가상 스레드 모드면 HttpClient 내부 작업도 가상 스레드에서 실행
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
+    ) {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3));
+        if (virtualThreadsEnabled) {
+            httpClientBuilder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClientBuilder.build());
+        requestFactory.setReadTimeout(Duration.ofSeconds(5));
+
+        this.restTemplate = builder.requestFactory(() -> requestFactory).build();
     }
 
     public String getTodayWeather() {
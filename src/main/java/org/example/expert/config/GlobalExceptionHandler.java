@@ -4,6 +4,7 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -38,7 +39,10 @@ public class GlobalExceptionHandler {
         errorResponse.put("code", status.value());
         errorResponse.put("message", message);
 
-        return new ResponseEntity<>(errorResponse, status);
+        // 오류 본문은 항상 JSON (Accept 가 application/x-ndjson 인 반응형 API 도 본문 변환기를 찾지 못해 500 이 되지 않도록)
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponse);
     }
 }
 
@@ -0,0 +1,17 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Module 빈은 Spring Boot 가 ObjectMapper 에 자동 등록
+@Configuration
+public class JacksonConfig {
+
+    // getter/생성자 호출을 리플렉션 대신 생성된 람다로 -> 응답 DTO 직렬화/역직렬화 처리량 향상
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
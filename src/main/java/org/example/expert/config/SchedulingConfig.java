@@ -0,0 +1,10 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (유휴 버킷 정리 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
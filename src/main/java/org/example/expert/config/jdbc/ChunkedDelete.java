@@ -0,0 +1,27 @@
+package org.example.expert.config.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+// 보관 기간이 지난 행 정리용 : "DELETE ... LIMIT ?" 를 지운 행이 chunkSize 보다 적을 때까지 반복
+// - 한 문장으로 모두 지우면 잠금, 언두 로그, 복제 지연이 지울 행 수만큼 커짐 -> 문장마다 자동 커밋되는 작은 청크로 나눔
+// - sql 의 마지막 ? 는 LIMIT (args 뒤에 chunkSize 를 붙여 바인딩)
+public final class ChunkedDelete {
+
+    private ChunkedDelete() {
+    }
+
+    // 지운 행 수 합계
+    public static long deleteInChunks(JdbcTemplate jdbcTemplate, String sql, int chunkSize, Object... args) {
+        Object[] params = Arrays.copyOf(args, args.length + 1);
+        params[args.length] = chunkSize;
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, params);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+}
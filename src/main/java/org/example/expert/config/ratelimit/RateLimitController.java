@@ -0,0 +1,23 @@
+package org.example.expert.config.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class RateLimitController {
+
+    private final RateLimiter rateLimiter;
+
+    // 라우트별 허용/거절 횟수, 활성 버킷 수
+    @GetMapping("/admin/rate-limits")
+    public ResponseEntity<List<RateLimitStatsResponse>> getStats() {
+        return ResponseEntity.ok(rateLimiter.getStats());
+    }
+}
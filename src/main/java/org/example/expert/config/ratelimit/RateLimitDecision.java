@@ -0,0 +1,19 @@
+package org.example.expert.config.ratelimit;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitDecision {
+
+    private final boolean allowed;
+    private final long limit;
+    private final long remaining;
+    private final long retryAfterSeconds;
+
+    public RateLimitDecision(boolean allowed, long limit, long remaining, long retryAfterSeconds) {
+        this.allowed = allowed;
+        this.limit = limit;
+        this.remaining = remaining;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.security.JwtUtil;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청 수 제한 필터 -> SecurityConfig 에서 JwtAuthenticationFilter 앞에 등록
+// - /auth/** (permitAll) : 클라이언트 IP 기준 -> bcrypt 연산 전에 차단
+// - 쓰기 요청 : AuthUser id 기준 (토큰 없거나 잘못되면 IP 기준)
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest httpRequest,
+            @NonNull HttpServletResponse httpResponse,
+            @NonNull FilterChain chain
+    ) throws ServletException, IOException {
+        RateLimiter.RouteLimiter limiter = rateLimiter.match(httpRequest.getMethod(), httpRequest.getRequestURI());
+        if (limiter == null) {
+            chain.doFilter(httpRequest, httpResponse);
+            return;
+        }
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(limiter, resolveKey(limiter, httpRequest));
+        httpResponse.setHeader("X-RateLimit-Limit", String.valueOf(decision.getLimit()));
+        httpResponse.setHeader("X-RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+
+        if (!decision.isAllowed()) {
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()));
+            sendErrorResponse(httpResponse);
+            return;
+        }
+
+        chain.doFilter(httpRequest, httpResponse);
+    }
+
+    private String resolveKey(RateLimiter.RouteLimiter limiter, HttpServletRequest request) {
+        if (limiter.getRoute().getKey() == RateLimitProperties.KeyType.USER) {
+            Long userId = resolveUserId(request);
+            if (userId != null) {
+                return "user:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // JwtAuthenticationFilter 보다 먼저 실행되므로 SecurityContext 가 비어있는 경우가 대부분
+    // -> 서명 검증된 토큰의 sub(userId) 사용, 위조 토큰으로 남의 버킷을 소진시킬 수 없음
+    private Long resolveUserId(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getId();
+        }
+
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return Long.valueOf(jwtUtil.extractClaims(jwtUtil.substringToken(authorizationHeader)).getSubject());
+        } catch (Exception e) {
+            // 토큰 오류 응답은 JwtAuthenticationFilter 가 담당
+            return null;
+        }
+    }
+
+    private void sendErrorResponse(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        response.setStatus(status.value());
+        response.setContentType("application/json;charset=UTF-8");
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// application.yml 의 rate-limit.* 설정 바인딩
+// 라우트는 위에서부터 순서대로 매칭 -> 처음 매칭된 라우트의 제한만 적용
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // 라우트 하나당 보관할 수 있는 최대 버킷 수 (메모리 상한)
+    private int maxBuckets = 100_000;
+    // 유휴 버킷 정리 주기
+    private Duration idleSweepInterval = Duration.ofMinutes(1);
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        // PathPattern 문법 (ex. /auth/signin, /todos/**)
+        private String pattern;
+        // 비어있으면 모든 HTTP 메서드
+        private List<String> methods = new ArrayList<>();
+        private KeyType key = KeyType.IP;
+        private long capacity;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+
+    public enum KeyType {
+        // 클라이언트 IP 기준 (인증 전 요청)
+        IP,
+        // 인증된 사용자(AuthUser) id 기준, 토큰 없으면 IP 로 대체
+        USER
+    }
+}
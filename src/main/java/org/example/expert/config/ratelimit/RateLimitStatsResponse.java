@@ -0,0 +1,28 @@
+package org.example.expert.config.ratelimit;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitStatsResponse {
+
+    private final String route;
+    private final String key;
+    private final long capacity;
+    private final String refillPeriod;
+    private final long allowed;
+    private final long rejected;
+    private final long evictedBuckets;
+    private final int activeBuckets;
+
+    public RateLimitStatsResponse(String route, String key, long capacity, String refillPeriod,
+                                  long allowed, long rejected, long evictedBuckets, int activeBuckets) {
+        this.route = route;
+        this.key = key;
+        this.capacity = capacity;
+        this.refillPeriod = refillPeriod;
+        this.allowed = allowed;
+        this.rejected = rejected;
+        this.evictedBuckets = evictedBuckets;
+        this.activeBuckets = activeBuckets;
+    }
+}
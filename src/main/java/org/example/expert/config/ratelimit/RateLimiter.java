@@ -0,0 +1,175 @@
+package org.example.expert.config.ratelimit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// 라우트별 토큰 버킷 보관 + 허용/거절 판단
+// - 버킷은 키(IP 또는 userId)마다 하나씩 ConcurrentHashMap 에 보관
+// - 유휴(가득 찬) 버킷은 주기적으로 제거 -> 메모리 상한 유지
+// - 상한을 넘으면 새 키는 라우트 공용 overflow 버킷을 같이 사용
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final List<RouteLimiter> routeLimiters;
+    // 정리 작업이 동시에 여러 번 돌지 않도록
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        PathPatternParser parser = new PathPatternParser();
+        List<RouteLimiter> limiters = new ArrayList<>();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            validate(route);
+            limiters.add(new RouteLimiter(route, parser.parse(route.getPattern())));
+        }
+        this.routeLimiters = List.copyOf(limiters);
+    }
+
+    // 잘못된 설정은 시작할 때 실패 (capacity 0 -> 충전 간격 계산 시 0 으로 나눔, 음수/0 간격 -> 제한이 조용히 꺼짐)
+    private static void validate(RateLimitProperties.Route route) {
+        if (route.getPattern() == null || route.getPattern().isBlank()) {
+            throw new IllegalStateException("rate-limit 라우트 " + route.getName() + " 에 pattern 이 필요합니다.");
+        }
+        if (route.getCapacity() <= 0) {
+            throw new IllegalStateException("rate-limit 라우트 " + route.getName() + " 의 capacity 는 1 이상이어야 합니다: "
+                    + route.getCapacity());
+        }
+        Duration refillPeriod = route.getRefillPeriod();
+        if (refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalStateException("rate-limit 라우트 " + route.getName() + " 의 refill-period 는 0 보다 커야 합니다: "
+                    + refillPeriod);
+        }
+    }
+
+    // 요청에 매칭되는 라우트 (없으면 null -> 제한 없음)
+    public RouteLimiter match(String method, String requestUri) {
+        if (!properties.isEnabled() || routeLimiters.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(requestUri);
+        for (RouteLimiter limiter : routeLimiters) {
+            if (limiter.matches(method, path)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    public RateLimitDecision tryAcquire(RouteLimiter limiter, String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = limiter.buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucketOrOverflow(limiter, key, now);
+        }
+
+        long waitNanos = bucket.tryConsume(now);
+        long limit = limiter.route.getCapacity();
+        if (waitNanos == 0L) {
+            limiter.allowed.increment();
+            return new RateLimitDecision(true, limit, bucket.availableTokens(now), 0L);
+        }
+        limiter.rejected.increment();
+        // Retry-After 는 초 단위 정수 -> 올림, 최소 1초
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return new RateLimitDecision(false, limit, 0L, retryAfterSeconds);
+    }
+
+    private TokenBucket newBucketOrOverflow(RouteLimiter limiter, String key, long now) {
+        if (limiter.buckets.size() >= properties.getMaxBuckets()) {
+            sweep(now);
+            if (limiter.buckets.size() >= properties.getMaxBuckets()) {
+                // 상한 초과 (대량 IP 공격 등) -> 공용 버킷으로 묶어서 제한
+                return limiter.overflowBucket;
+            }
+        }
+        return limiter.buckets.computeIfAbsent(key, k -> limiter.newBucket(now));
+    }
+
+    // 가득 찬 버킷 = 새 버킷과 동일하므로 지워도 제한 결과 변화 없음
+    @Scheduled(fixedDelayString = "${rate-limit.idle-sweep-interval:PT1M}")
+    public void evictIdleBuckets() {
+        sweep(System.nanoTime());
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (RouteLimiter limiter : routeLimiters) {
+                int before = limiter.buckets.size();
+                limiter.buckets.values().removeIf(bucket -> bucket.isIdle(now));
+                int removed = before - limiter.buckets.size();
+                if (removed > 0) {
+                    limiter.evicted.add(removed);
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public List<RateLimitStatsResponse> getStats() {
+        return routeLimiters.stream()
+                .map(limiter -> new RateLimitStatsResponse(
+                        limiter.route.getName(),
+                        limiter.route.getKey().name(),
+                        limiter.route.getCapacity(),
+                        limiter.route.getRefillPeriod().toString(),
+                        limiter.allowed.sum(),
+                        limiter.rejected.sum(),
+                        limiter.evicted.sum(),
+                        limiter.buckets.size()
+                ))
+                .toList();
+    }
+
+    @Getter
+    public static class RouteLimiter {
+
+        private final RateLimitProperties.Route route;
+        private final PathPattern pattern;
+        private final Set<String> methods;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflowBucket;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder evicted = new LongAdder();
+
+        RouteLimiter(RateLimitProperties.Route route, PathPattern pattern) {
+            this.route = route;
+            this.pattern = pattern;
+            this.methods = route.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.overflowBucket = newBucket(System.nanoTime());
+        }
+
+        boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+
+        TokenBucket newBucket(long now) {
+            return new TokenBucket(route.getCapacity(), route.getRefillPeriod().toNanos(), now);
+        }
+    }
+}
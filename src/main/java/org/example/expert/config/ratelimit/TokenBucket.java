@@ -0,0 +1,50 @@
+package org.example.expert.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 락 없이(CAS) 동작하는 토큰 버킷
+// - GCRA(Generic Cell Rate Algorithm) 방식 : 토큰 개수 대신 "다음 토큰이 차는 예정 시각(TAT)" 하나만 저장
+// - capacity 개까지 몰아서 요청 가능(burst), 이후 refillPeriod / capacity 간격으로 토큰 1개씩 충전
+// - 상태가 long 하나라 AtomicLong CAS 한 번으로 소비 가능 -> synchronized 불필요
+public final class TokenBucket {
+
+    // 토큰 1개가 충전되는 간격 (나노초)
+    private final long emissionIntervalNanos;
+    // 버킷이 가득 찼을 때 허용되는 최대 선행 시간 (= capacity 개 분량)
+    private final long burstToleranceNanos;
+    // Theoretical Arrival Time : 이 시각이 지나면 버킷이 가득 찬 상태
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(long capacity, long refillPeriodNanos, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1L, refillPeriodNanos / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    // 토큰 1개 소비 시도
+    // 성공 시 0, 실패 시 다음 토큰이 찰 때까지 기다려야 하는 시간(나노초) 반환
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    // 남은 토큰 수 (응답 헤더용, 근사치)
+    public long availableTokens(long nowNanos) {
+        long debt = Math.max(0L, theoreticalArrivalTime.get() - nowNanos);
+        return (burstToleranceNanos - debt) / emissionIntervalNanos;
+    }
+
+    // 버킷이 가득 찬 상태 = 새로 만든 버킷과 동일 -> 제거해도 제한 결과가 달라지지 않음
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrivalTime.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.config.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// 반응형 읽기 API (reactive-read.enabled=true 일 때만) : GET /reactive/todos, /reactive/todos/{todoId}/comments, .../managers
+// - R2DBC 로 조회한 행을 Flux 로 내보내고, MVC 가 NDJSON 으로 한 건씩 씀 (한 건 쓰고 다음 한 건 요청 -> 배압)
+// - 조회를 기다리는 동안 요청 스레드를 잡지 않음 (서블릿 비동기 처리)
+// - 읽기 전용 : 쓰기와 트랜잭션은 기존 JPA 경로 그대로 (R2DBC 트랜잭션 매니저 자동 설정은 ExpertApplication 에서 제외)
+@Configuration
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+public class ReactiveReadConfig {
+
+    // 풀은 빈으로 등록하지 않음 -> ConnectionFactory 빈이 있으면 JDBC DataSource 자동 설정이 꺼짐
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            ReactiveReadProperties properties,
+            @Value("${sharding.enabled:false}") boolean shardingEnabled
+    ) {
+        // 하나의 DB 만 읽음 -> 할 일/댓글/담당자가 샤드에 나뉘어 있으면 결과가 빠짐
+        if (shardingEnabled) {
+            throw new IllegalStateException("샤딩 모드(sharding.enabled=true)에서는 reactive-read.enabled 를 사용할 수 없습니다.");
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-read")
+                .initialSize(properties.getInitialPoolSize())
+                .maxSize(properties.getMaxPoolSize())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
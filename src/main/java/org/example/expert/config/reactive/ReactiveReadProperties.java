@@ -0,0 +1,25 @@
+package org.example.expert.config.reactive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 reactive-read.* 설정 바인딩
+// JDBC(spring.datasource.*)와 같은 DB 를 가리키는 R2DBC 주소 (ex. r2dbc:mysql://localhost:3306/expert)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reactive-read")
+public class ReactiveReadProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    // JDBC(Hikari) 풀과 별개인 R2DBC 커넥션 풀
+    private int initialPoolSize = 5;
+    private int maxPoolSize = 20;
+    // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+    private Duration maxAcquireTime = Duration.ofSeconds(5);
+}
@@ -1,6 +1,8 @@
 package org.example.expert.config.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ratelimit.RateLimitFilter;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +28,8 @@ public class SecurityConfig {
 
     // JWT 인증 필터 (직접 구현한 커스텀 필터 주입)
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    // 요청 수 제한 필터 (토큰 버킷)
+    private final RateLimitFilter rateLimitFilter;
 
     // 비밀번호 암호화를 위한 Bean 등록 -> BCrypt 알고리즘 사용
     @Bean
@@ -44,6 +48,8 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // JWT 필터를 SecurityContextHolderAwareRequestFilter 앞에 추가
                 .addFilterBefore(jwtAuthenticationFilter, SecurityContextHolderAwareRequestFilter.class)
+                // 요청 수 제한 필터를 JWT 필터 앞에 추가 -> 초과 요청은 토큰 검증/bcrypt 전에 차단
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 // JWT 사용 시 불필요한 기능들 비활성화 //
                 .formLogin(AbstractHttpConfigurer::disable)  // [SSR] 서버가 로그인 HTML 폼 렌더링
                 .anonymous(AbstractHttpConfigurer::disable)  // 미인증 사용자를 익명 처리
@@ -52,6 +58,8 @@ public class SecurityConfig {
                 .rememberMe(AbstractHttpConfigurer::disable) // 서버가 쿠키 발급하여 자동 로그인
 
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(SSE)의 ASYNC 디스패치는 JWT 필터를 다시 거치지 않음 -> 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // '/auth/**' 경로는 모두 접근 허용 (회원가입, 로그인 ..)
                         .requestMatchers("/auth/**").permitAll()
                         // '/test' 는 ADMIN 만 허용
@@ -0,0 +1,283 @@
+package org.example.expert.config.seed;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 대량 테스트 데이터 생성 (users -> todos + managers -> comments)
+// - JPA 없이 JDBC 다중 행 INSERT, rows-per-insert 행 x 10 문장마다 커밋
+// - id 는 현재 MAX(id) 다음부터 직접 지정 -> 외래 키 값을 조회 없이 계산 (H2 는 끝난 뒤 IDENTITY 시작값 조정)
+// - 쏠림 : 할 일/댓글 작성자는 Zipf(author-skew), 댓글이 달리는 할 일은 Zipf(hot-todo-skew)
+//   순위 -> id 는 소수 곱셈으로 섞음 (인기 유저/할 일이 앞 번호에 몰리지 않도록)
+// - 시각 : 할 일은 최근일수록 많고(id 순 = 생성 순), 수정 시각/댓글 시각은 생성 이후 기간에 퍼짐
+// - 단계마다 난수열을 따로 씀 -> 댓글 수만 바꿔도 유저/할 일 데이터는 그대로
+// - 변경 이력(change_log), 일별 요약(todo_daily_stats)도 생성한 범위만큼 INSERT ... SELECT 로 채움
+@Slf4j
+public class DataSeeder {
+
+    private static final List<String> WEATHERS = List.of(
+            "Sunny", "Sunny", "Sunny", "Cloudy", "Cloudy", "Rainy", "Rainy", "Snowy", "Windy", "Foggy");
+    private static final List<String> SUBJECTS = List.of(
+            "보고서", "회의 자료", "장보기", "운동", "여행 일정", "세금 신고", "이사 준비", "발표", "독서", "병원 예약");
+    private static final List<String> ACTIONS = List.of("정리", "준비", "검토", "작성", "예약", "마무리", "공유", "확인");
+    private static final List<String> COMMENTS = List.of(
+            "확인했습니다.", "오늘 안에 끝낼게요.", "자료 첨부 부탁드려요.", "일정 조정이 필요해요.",
+            "완료했습니다!", "내일 다시 볼게요.", "좋아요", "도움이 필요하면 말씀해 주세요.");
+
+    private static final long USER_STREAM = 0x5EED_0001L;
+    private static final long TODO_STREAM = 0x5EED_0002L;
+    private static final long COMMENT_STREAM = 0x5EED_0003L;
+    // 순위 -> 인덱스 섞기 : (순위 x 2^31-1 + offset) mod n -> n < 2^31 이면 일대일 대응
+    private static final long SCRAMBLE_PRIME = 2_147_483_647L;
+    // 생성 후 한 번도 수정되지 않은 할 일 비율
+    private static final double UNMODIFIED_RATIO = 0.6;
+    private static final int STATEMENTS_PER_COMMIT = 10;
+
+    private final DataSource dataSource;
+    private final SeedProperties properties;
+    private final String passwordHash;
+    private final boolean dailyStatsEnabled;
+
+    public DataSeeder(DataSource dataSource, SeedProperties properties, String passwordHash, boolean dailyStatsEnabled) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.passwordHash = passwordHash;
+        this.dailyStatsEnabled = dailyStatsEnabled;
+    }
+
+    public void seed() {
+        validate();
+        LocalDateTime until = properties.getUntil() != null ? properties.getUntil() : LocalDate.now().atStartOfDay();
+        LocalDateTime from = until.minusDays(properties.getDays());
+        long startNanos = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long firstUserId = nextId(connection, "users");
+                long firstTodoId = nextId(connection, "todos");
+                long firstCommentId = nextId(connection, "comments");
+                long firstManagerId = nextId(connection, "managers");
+
+                seedUsers(connection, firstUserId, from);
+                long[] todoCreatedAt = seedTodosAndManagers(connection, firstUserId, firstTodoId, firstManagerId, from);
+                seedComments(connection, firstUserId, firstTodoId, firstCommentId, todoCreatedAt, from);
+                fillDerivedTables(connection, firstTodoId, firstCommentId, firstManagerId);
+                if ("H2".equals(connection.getMetaData().getDatabaseProductName())) {
+                    restartIdentities(connection);
+                }
+                connection.commit();
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("테스트 데이터 생성에 실패했습니다.", e);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Seeded {} users, {} todos, {} comments (+ managers) in {} ms",
+                properties.getUsers(), properties.getTodos(), properties.getComments(), elapsedMillis);
+    }
+
+    private void validate() {
+        if (properties.getUsers() < 1 && properties.getTodos() > 0) {
+            throw new IllegalArgumentException("seed.todos 를 만들려면 seed.users 가 1 이상이어야 합니다.");
+        }
+        if (properties.getTodos() < 1 && properties.getComments() > 0) {
+            throw new IllegalArgumentException("seed.comments 를 만들려면 seed.todos 가 1 이상이어야 합니다.");
+        }
+        if (properties.getDays() < 1) {
+            throw new IllegalArgumentException("seed.days 는 1 이상이어야 합니다.");
+        }
+    }
+
+    // 가입 시각 : 기간 시작 전 days 일 동안 id 순으로 고르게
+    private void seedUsers(Connection connection, long firstUserId, LocalDateTime from) throws SQLException {
+        int users = properties.getUsers();
+        long span = spanSeconds();
+        try (MultiRowInsert insert = new MultiRowInsert(connection, "users", properties.getRowsPerInsert(),
+                "id", "created_at", "modified_at", "email", "nickname", "password", "user_role")) {
+            for (int i = 0; i < users; i++) {
+                long id = firstUserId + i;
+                LocalDateTime createdAt = from.minusSeconds(span - span * i / users);
+                insert.add(id, createdAt, createdAt, "user" + id + "@seed.test", "user" + id, passwordHash, "ROLE_USER");
+                commitPeriodically(connection, i, insert);
+            }
+            insert.flush();
+            connection.commit();
+        }
+    }
+
+    // 작성자는 Todo 생성자와 같이 담당자로 자동 등록, 추가 담당자는 작성자와 다른 유저 중 연속 구간에서
+    // 반환 : 할 일별 생성 시각 (기간 시작 기준 초) -> 댓글 시각 계산용
+    private long[] seedTodosAndManagers(Connection connection, long firstUserId, long firstTodoId, long firstManagerId,
+                                        LocalDateTime from) throws SQLException {
+        int users = properties.getUsers();
+        int todos = properties.getTodos();
+        long span = spanSeconds();
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed() ^ TODO_STREAM);
+        ZipfSampler authors = new ZipfSampler(Math.max(1, users), properties.getAuthorSkew());
+        long authorOffset = offset(USER_STREAM, users);
+        long[] createdAt = new long[todos];
+        long managerId = firstManagerId;
+
+        try (MultiRowInsert todoInsert = new MultiRowInsert(connection, "todos", properties.getRowsPerInsert(),
+                "id", "created_at", "modified_at", "user_id", "title", "contents", "weather");
+             MultiRowInsert managerInsert = new MultiRowInsert(connection, "managers", properties.getRowsPerInsert(),
+                     "id", "todo_id", "user_id").dependsOn(todoInsert)) {
+            for (int i = 0; i < todos; i++) {
+                long todoId = firstTodoId + i;
+                // 누적 비율의 제곱근 -> 생성 밀도가 시간에 비례해 증가 (최근일수록 많음)
+                createdAt[i] = (long) (span * Math.sqrt((i + random.nextDouble()) / todos));
+                LocalDateTime created = from.plusSeconds(createdAt[i]);
+                LocalDateTime modified = random.nextDouble() < UNMODIFIED_RATIO
+                        ? created
+                        : created.plusSeconds((long) ((span - createdAt[i]) * square(random.nextDouble())));
+                int author = scramble(authors.sample(random) - 1, users, authorOffset);
+                String subject = pick(SUBJECTS, random);
+                String title = subject + " " + pick(ACTIONS, random);
+                todoInsert.add(todoId, created, modified, firstUserId + author, title,
+                        subject + " 관련 메모 " + (random.nextInt(1000) + 1), pick(WEATHERS, random));
+
+                managerInsert.add(managerId++, todoId, firstUserId + author);
+                int extras = Math.min(users - 1, extraManagerCount(random));
+                int base = random.nextInt(users);
+                for (int j = 0; j < extras; j++) {
+                    int user = (base + j) % users;
+                    // 구간 안에 작성자가 있으면 구간 바로 다음 유저로 대체 (extras < users 라 겹치지 않음)
+                    if (user == author) {
+                        user = (base + extras) % users;
+                    }
+                    managerInsert.add(managerId++, todoId, firstUserId + user);
+                }
+                commitPeriodically(connection, i, managerInsert);
+            }
+            managerInsert.flush();
+            connection.commit();
+        }
+        return createdAt;
+    }
+
+    private void seedComments(Connection connection, long firstUserId, long firstTodoId, long firstCommentId,
+                              long[] todoCreatedAt, LocalDateTime from) throws SQLException {
+        long comments = properties.getComments();
+        if (comments == 0) {
+            return;
+        }
+        int users = properties.getUsers();
+        int todos = properties.getTodos();
+        long span = spanSeconds();
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed() ^ COMMENT_STREAM);
+        ZipfSampler hotTodos = new ZipfSampler(todos, properties.getHotTodoSkew());
+        ZipfSampler authors = new ZipfSampler(users, properties.getAuthorSkew());
+        long todoOffset = offset(TODO_STREAM, todos);
+        long authorOffset = offset(USER_STREAM, users);
+
+        try (MultiRowInsert insert = new MultiRowInsert(connection, "comments", properties.getRowsPerInsert(),
+                "id", "created_at", "modified_at", "todo_id", "user_id", "contents")) {
+            for (long i = 0; i < comments; i++) {
+                int todo = scramble(hotTodos.sample(random) - 1, todos, todoOffset);
+                // 댓글은 할 일 생성 직후에 몰림 (남은 기간 x u^3)
+                long offsetSeconds = todoCreatedAt[todo]
+                        + (long) ((span - todoCreatedAt[todo]) * Math.pow(random.nextDouble(), 3));
+                LocalDateTime created = from.plusSeconds(offsetSeconds);
+                int author = scramble(authors.sample(random) - 1, users, authorOffset);
+                insert.add(firstCommentId + i, created, created, firstTodoId + todo, firstUserId + author,
+                        pick(COMMENTS, random));
+                commitPeriodically(connection, i, insert);
+            }
+            insert.flush();
+            connection.commit();
+        }
+    }
+
+    // 엔티티 리스너/저장 로직이 채우던 테이블을 생성 범위만큼 집합 연산으로 채움
+    private void fillDerivedTables(Connection connection, long firstTodoId, long firstCommentId, long firstManagerId)
+            throws SQLException {
+        executeUpdate(connection, "INSERT INTO change_log (entity_type, entity_id, todo_id, operation, changed_at) "
+                + "SELECT 'TODO', id, id, 'UPSERT', modified_at FROM todos WHERE id >= ? ORDER BY id", firstTodoId);
+        executeUpdate(connection, "INSERT INTO change_log (entity_type, entity_id, todo_id, operation, changed_at) "
+                + "SELECT 'MANAGER', m.id, m.todo_id, 'UPSERT', t.created_at FROM managers m "
+                + "JOIN todos t ON t.id = m.todo_id WHERE m.id >= ? ORDER BY m.id", firstManagerId);
+        executeUpdate(connection, "INSERT INTO change_log (entity_type, entity_id, todo_id, operation, changed_at) "
+                + "SELECT 'COMMENT', id, todo_id, 'UPSERT', modified_at FROM comments WHERE id >= ? ORDER BY id", firstCommentId);
+
+        // 요약 테이블 쿼리(ON DUPLICATE KEY UPDATE)는 MySQL 전용 -> todo.daily-stats.enabled=false 면 건너뜀
+        if (dailyStatsEnabled) {
+            executeUpdate(connection, "INSERT INTO todo_daily_stats (stat_date, weather, todo_count) "
+                    + "SELECT CAST(created_at AS DATE), COALESCE(weather, 'Unknown'), COUNT(*) FROM todos WHERE id >= ? "
+                    + "GROUP BY CAST(created_at AS DATE), COALESCE(weather, 'Unknown') "
+                    + "ON DUPLICATE KEY UPDATE todo_count = todo_count + VALUES(todo_count)", firstTodoId);
+        }
+        connection.commit();
+    }
+
+    // H2 IDENTITY 는 직접 지정한 id 를 건너뛰지 않음 -> 다음 INSERT 가 중복 키가 되지 않도록 시작값 조정
+    // (MySQL auto_increment 는 자동으로 MAX(id) 다음으로 이동)
+    private void restartIdentities(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("users", "todos", "comments", "managers")) {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(connection, table));
+            }
+        }
+    }
+
+    private void commitPeriodically(Connection connection, long index, MultiRowInsert insert) throws SQLException {
+        if ((index + 1) % ((long) properties.getRowsPerInsert() * STATEMENTS_PER_COMMIT) == 0) {
+            insert.flush();
+            connection.commit();
+        }
+    }
+
+    // 소수 부분은 확률로 -> 평균이 extra-managers-per-todo
+    private int extraManagerCount(SplittableRandom random) {
+        double average = properties.getExtraManagersPerTodo();
+        int count = (int) average;
+        return random.nextDouble() < average - count ? count + 1 : count;
+    }
+
+    private long spanSeconds() {
+        return properties.getDays() * 86_400L;
+    }
+
+    private long offset(long stream, int n) {
+        return n == 0 ? 0 : Math.floorMod(properties.getRandomSeed() ^ stream, (long) n);
+    }
+
+    private static int scramble(long rank, int n, long offset) {
+        return (int) ((rank * SCRAMBLE_PRIME + offset) % n);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    private static String pick(List<String> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void executeUpdate(Connection connection, String sql, long fromId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, fromId);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.config.seed;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// INSERT INTO t (...) VALUES (?, ...), (?, ...), ... 한 문장에 여러 행
+// - 행 단위 addBatch 보다 왕복/파싱 횟수가 적음 (MySQL 은 rewriteBatchedStatements 설정 없이도 같은 효과)
+// - 꽉 찬 문장은 PreparedStatement 하나를 재사용, 마지막 남은 행만 따로 준비
+// - dependsOn : 외래 키로 참조하는 쪽(예: 담당자 -> 할 일)이 먼저 INSERT 되도록 flush 전에 상대를 먼저 flush
+class MultiRowInsert implements AutoCloseable {
+
+    // MySQL 프로토콜의 문장당 파라미터 수 제한
+    private static final int MAX_PARAMETERS = 65_535;
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final List<Object> values;
+    private MultiRowInsert parent;
+    private PreparedStatement fullStatement;
+    private long rowCount;
+
+    MultiRowInsert(Connection connection, String table, int rowsPerStatement, String... columns) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = Math.max(1, Math.min(rowsPerStatement, MAX_PARAMETERS / columns.length));
+        this.values = new ArrayList<>(this.rowsPerStatement * columns.length);
+    }
+
+    MultiRowInsert dependsOn(MultiRowInsert parent) {
+        this.parent = parent;
+        return this;
+    }
+
+    void add(Object... row) throws SQLException {
+        values.addAll(Arrays.asList(row));
+        if (values.size() == rowsPerStatement * columns.length) {
+            flush();
+        }
+    }
+
+    void flush() throws SQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (parent != null) {
+            parent.flush();
+        }
+        int rows = values.size() / columns.length;
+        boolean full = rows == rowsPerStatement;
+        if (full && fullStatement == null) {
+            fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+        }
+        PreparedStatement statement = full ? fullStatement : connection.prepareStatement(sql(rows));
+        try {
+            for (int i = 0; i < values.size(); i++) {
+                statement.setObject(i + 1, values.get(i));
+            }
+            statement.executeUpdate();
+        } finally {
+            if (!full) {
+                statement.close();
+            }
+        }
+        rowCount += rows;
+        values.clear();
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+
+    private String sql(int rows) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (fullStatement != null) {
+            fullStatement.close();
+        }
+    }
+}
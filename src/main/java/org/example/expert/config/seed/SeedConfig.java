@@ -0,0 +1,57 @@
+package org.example.expert.config.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+
+// 대량 테스트 데이터 생성 (seed.enabled=true 일 때만) -> ./gradlew seedData
+// - 빈 생성이 끝난 직후(Flyway 마이그레이션 이후, 웹 서버/스케줄러 시작 전) 생성
+//   -> 생성 중에는 요청이 들어오지 않음 (직접 지정한 id 와 가입 id 가 겹치지 않도록)
+//   -> 이메일 블룸 필터 등 ApplicationReadyEvent 에서 적재하는 구성요소는 생성된 데이터까지 읽음
+// - seed.exit-on-finish=false 면 생성 후 그대로 서버로 동작 (부하 테스트/벤치마크용)
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "seed.enabled", havingValue = "true")
+@EnableConfigurationProperties(SeedProperties.class)
+public class SeedConfig {
+
+    @Bean
+    public DataSeeder dataSeeder(
+            DataSource dataSource,
+            SeedProperties properties,
+            PasswordEncoder passwordEncoder,
+            @Value("${todo.daily-stats.enabled:true}") boolean dailyStatsEnabled,
+            @Value("${sharding.enabled:false}") boolean shardingEnabled
+    ) {
+        // id 를 직접 지정해 한 DB 에 넣음 -> 샤드별 id 규칙(ShardRouter.shardOfId)과 맞지 않음
+        if (shardingEnabled) {
+            throw new IllegalStateException("샤딩 모드(sharding.enabled=true)에서는 seed.enabled 를 사용할 수 없습니다.");
+        }
+        // 모든 유저가 같은 해시 사용 (BCrypt 를 수백만 번 계산하지 않도록)
+        return new DataSeeder(dataSource, properties, passwordEncoder.encode(properties.getPassword()), dailyStatsEnabled);
+    }
+
+    @Bean
+    public SmartInitializingSingleton dataSeedInitializer(DataSeeder dataSeeder) {
+        return dataSeeder::seed;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "seed.exit-on-finish", havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner dataSeedExitRunner(ConfigurableApplicationContext context) {
+        return args -> {
+            log.info("Seeding finished, shutting down (seed.exit-on-finish=true)");
+            System.exit(SpringApplication.exit(context));
+        };
+    }
+}
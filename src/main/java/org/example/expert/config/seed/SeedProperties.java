@@ -0,0 +1,36 @@
+package org.example.expert.config.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDateTime;
+
+// application.yml 의 seed.* 설정 바인딩 (대량 테스트 데이터 생성)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+
+    private boolean enabled = false;
+    // 같은 값 + 같은 설정 + 빈 DB 면 같은 데이터
+    private long randomSeed = 42L;
+    private int users = 10_000;
+    private int todos = 100_000;
+    private long comments = 500_000L;
+    // 작성자(자동 등록) 외 할 일당 평균 추가 담당자 수
+    private double extraManagersPerTodo = 0.5;
+    // 작성자 쏠림 (할 일/댓글 작성자), 클수록 소수 유저에 집중
+    private double authorSkew = 1.0;
+    // 댓글이 몰리는 인기 할 일 쏠림
+    private double hotTodoSkew = 1.1;
+    // 생성 시각 분포 : until 기준 최근 days 일 (최근일수록 많음)
+    private int days = 365;
+    // 비우면 오늘 0시 -> 날짜까지 고정해야 완전히 같은 데이터
+    private LocalDateTime until;
+    private int rowsPerInsert = 1_000;
+    // 생성된 유저 공통 비밀번호 (로그인 부하 테스트용)
+    private String password = "Seed1234!";
+    // 생성 후 애플리케이션 종료 (./gradlew seedData)
+    private boolean exitOnFinish = true;
+}
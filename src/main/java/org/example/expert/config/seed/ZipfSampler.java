@@ -0,0 +1,62 @@
+package org.example.expert.config.seed;
+
+import java.util.random.RandomGenerator;
+
+// 1..n 중 하나를 Zipf 분포(P(k) ∝ 1 / k^exponent)로 뽑음
+// - 누적 분포 배열 없이 rejection-inversion 방식 (Hörmann & Derflinger) -> 메모리 O(1), 수백만 개에도 바로 사용
+// - exponent 가 클수록 상위 몇 개에 더 몰림 (1.0 : 상위 1% 가 대략 절반 가까이 차지)
+public class ZipfSampler {
+
+    private final long n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    public ZipfSampler(long n, double exponent) {
+        if (n < 1 || exponent <= 0) {
+            throw new IllegalArgumentException("n >= 1, exponent > 0 이어야 합니다.");
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    // 1(가장 많이 뽑힘) ~ n
+    public long sample(RandomGenerator random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            long k = Math.min(n, Math.max(1, (long) (x + 0.5)));
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = Math.max(-1, x * (1 - exponent));
+        return Math.exp(helper1(t) * x);
+    }
+
+    // log(1 + x) / x (x 가 0 근처면 테일러 전개)
+    private static double helper1(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    // (exp(x) - 1) / x (x 가 0 근처면 테일러 전개)
+    private static double helper2(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+}
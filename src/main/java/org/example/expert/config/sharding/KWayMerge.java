@@ -0,0 +1,51 @@
+package org.example.expert.config.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 샤드별로 이미 정렬된 목록을 하나의 정렬된 목록으로 병합
+// 각 목록의 맨 앞 원소만 힙에 넣고 꺼낼 때마다 같은 목록의 다음 원소를 넣음 -> O((skip + limit) log k)
+public final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    public static <T> List<T> merge(List<List<T>> sortedLists, Comparator<? super T> comparator, int skip, int limit) {
+        PriorityQueue<Cursor<T>> heap = new PriorityQueue<>(
+                Math.max(1, sortedLists.size()), (a, b) -> comparator.compare(a.head, b.head));
+        for (List<T> list : sortedLists) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heap.add(new Cursor<>(iterator.next(), iterator));
+            }
+        }
+
+        List<T> result = new ArrayList<>(Math.max(0, limit));
+        int skipped = 0;
+        while (!heap.isEmpty() && result.size() < limit) {
+            Cursor<T> cursor = heap.poll();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                result.add(cursor.head);
+            }
+            if (cursor.rest.hasNext()) {
+                heap.add(new Cursor<>(cursor.rest.next(), cursor.rest));
+            }
+        }
+        return result;
+    }
+
+    private static final class Cursor<T> {
+        private final T head;
+        private final Iterator<T> rest;
+
+        private Cursor(T head, Iterator<T> rest) {
+            this.head = head;
+            this.rest = rest;
+        }
+    }
+}
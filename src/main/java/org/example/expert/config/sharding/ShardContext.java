@@ -0,0 +1,48 @@
+package org.example.expert.config.sharding;
+
+import java.util.function.Supplier;
+
+// 현재 스레드가 사용할 샤드 번호 (없으면 글로벌 DB)
+// ShardRoutingDataSource 가 커넥션을 꺼낼 때 참조 -> 트랜잭션 시작 전에 지정되어 있어야 함
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> work) {
+        Integer previous = enter(shard);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runOn(int shard, Runnable work) {
+        callOn(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // 이전 값을 돌려줌 -> 끝나면 restore 로 되돌림 (중첩 호출 대비)
+    static Integer enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.config.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// 글로벌 + 샤드별 커넥션 풀
+// - 모든 DB 에 같은 Flyway 마이그레이션 적용 (샤드의 users 는 글로벌의 참조 복사본)
+// - 샤드 i 의 todos/comments/managers id 는 (i + 1) + k * 샤드 수 로만 발급 -> ShardRouter.shardOfId
+//   MySQL : 커넥션마다 auto_increment_increment/offset 세션 변수 지정
+//   H2(테스트) : 컬럼 IDENTITY 의 시작값/증가폭 변경
+public class ShardDataSources implements AutoCloseable {
+
+    private static final List<String> SHARDED_TABLES = List.of("todos", "comments", "managers");
+
+    private final HikariDataSource global;
+    private final List<HikariDataSource> shards;
+
+    private ShardDataSources(HikariDataSource global, List<HikariDataSource> shards) {
+        this.global = global;
+        this.shards = shards;
+    }
+
+    public static ShardDataSources create(HikariDataSource global, ShardingProperties properties) {
+        int shardCount = properties.getShards().size();
+        if (shardCount == 0) {
+            throw new IllegalStateException("sharding.enabled=true 이면 sharding.shards 가 1개 이상 필요합니다.");
+        }
+        migrate(global);
+
+        List<HikariDataSource> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            HikariDataSource shard = createShard(i, shardCount, properties.getShards().get(i));
+            shards.add(shard);
+            migrate(shard);
+            interleaveIdentities(shard, i, shardCount);
+        }
+        return new ShardDataSources(global, shards);
+    }
+
+    private static HikariDataSource createShard(int index, int shardCount, ShardingProperties.Shard shard) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + index);
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        if (shard.getUrl().startsWith("jdbc:mysql:")) {
+            dataSource.setConnectionInitSql("SET SESSION auto_increment_increment = " + shardCount
+                    + ", auto_increment_offset = " + (index + 1));
+        }
+        return dataSource;
+    }
+
+    private static void migrate(DataSource dataSource) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    private static void interleaveIdentities(HikariDataSource shard, int index, int shardCount) {
+        if (shard.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shard);
+        for (String table : SHARDED_TABLES) {
+            long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            // maxId 보다 크면서 (id - 1) % 샤드 수 == index 인 가장 작은 값
+            long next = maxId + 1 + Math.floorMod(index - maxId, (long) shardCount);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET INCREMENT BY " + shardCount);
+        }
+    }
+
+    public DataSource getGlobal() {
+        return global;
+    }
+
+    public List<? extends DataSource> getShards() {
+        return shards;
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+        global.close();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.config.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// @ShardRouted 메서드에서 샤드를 결정하는 파라미터
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+    Type value();
+
+    enum Type {
+        // AuthUser 또는 user id (long) -> 새 할 일을 만들 샤드
+        USER,
+        // todo id (long) -> 할 일과 댓글, 담당자가 있는 샤드
+        TODO
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.expert.config.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// @ShardKey 파라미터로 샤드를 정해 메서드 전체(트랜잭션 포함)를 해당 샤드에서 실행
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardRouted {
+}
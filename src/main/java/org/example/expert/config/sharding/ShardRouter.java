@@ -0,0 +1,30 @@
+package org.example.expert.config.sharding;
+
+// 샤드 번호 계산
+// - 할 일은 작성자 user_id 기준 : user_id % 샤드 수
+// - 댓글/담당자는 할 일과 같은 샤드에 저장
+// - 샤드 i 의 todos/comments/managers id 는 (i + 1) 부터 샤드 수 간격으로 발급 (ShardingConfig)
+//   -> id 만으로도 샤드를 알 수 있음 : (id - 1) % 샤드 수
+public class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드는 1개 이상이어야 합니다.");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOfUser(long userId) {
+        return (int) Math.floorMod(userId, (long) shardCount);
+    }
+
+    public int shardOfId(long id) {
+        return (int) Math.floorMod(id - 1, (long) shardCount);
+    }
+}
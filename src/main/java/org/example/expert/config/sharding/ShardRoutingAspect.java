@@ -0,0 +1,75 @@
+package org.example.expert.config.sharding;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// @ShardRouted 메서드를 @ShardKey 파라미터가 가리키는 샤드에서 실행
+// @Transactional 보다 바깥에서 실행되어야 함 (트랜잭션 시작 시 커넥션을 꺼내므로) -> HIGHEST_PRECEDENCE
+@Aspect
+public class ShardRoutingAspect implements Ordered {
+
+    private final ShardRouter shardRouter;
+    // 메서드별 @ShardKey 파라미터 위치 (리플렉션은 메서드당 한 번만)
+    private final Map<Method, KeyParameter> keyParameters = new ConcurrentHashMap<>();
+
+    public ShardRoutingAspect(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Around("@annotation(org.example.expert.config.sharding.ShardRouted)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        KeyParameter keyParameter = keyParameters.computeIfAbsent(method, KeyParameter::of);
+        int shard = keyParameter.shardOf(joinPoint.getArgs()[keyParameter.index], shardRouter);
+
+        Integer current = ShardContext.current();
+        // 이미 다른 샤드의 트랜잭션 안이면 그 커넥션을 그대로 쓰게 됨 -> 잘못된 샤드에 쓰지 않도록 막음
+        if (current != null && current != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("샤드 " + current + " 트랜잭션 안에서 샤드 " + shard + " 로 라우팅할 수 없습니다: " + method);
+        }
+        Integer previous = ShardContext.enter(shard);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private record KeyParameter(int index, ShardKey.Type type) {
+
+        static KeyParameter of(Method method) {
+            Annotation[][] annotations = method.getParameterAnnotations();
+            for (int i = 0; i < annotations.length; i++) {
+                for (Annotation annotation : annotations[i]) {
+                    if (annotation instanceof ShardKey shardKey) {
+                        return new KeyParameter(i, shardKey.value());
+                    }
+                }
+            }
+            throw new IllegalStateException("@ShardRouted 메서드에 @ShardKey 파라미터가 없습니다: " + method);
+        }
+
+        int shardOf(Object value, ShardRouter router) {
+            if (type == ShardKey.Type.USER) {
+                long userId = value instanceof AuthUser authUser ? authUser.getId() : ((Number) value).longValue();
+                return router.shardOfUser(userId);
+            }
+            return router.shardOfId(((Number) value).longValue());
+        }
+    }
+}
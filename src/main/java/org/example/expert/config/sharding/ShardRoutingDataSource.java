@@ -0,0 +1,15 @@
+package org.example.expert.config.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// ShardContext 의 샤드 번호로 커넥션을 꺼낼 DataSource 선택, 지정되지 않았으면 글로벌
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String GLOBAL = "global";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard != null ? shard : GLOBAL;
+    }
+}
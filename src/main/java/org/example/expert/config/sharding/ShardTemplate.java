@@ -0,0 +1,82 @@
+package org.example.expert.config.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+// 모든 샤드에 같은 작업 실행
+// - 샤딩 off : 현재 스레드에서 한 번만 실행 (글로벌 DB = 유일한 DB)
+// - forEachShard : 샤드 순서대로 현재 스레드에서 실행 (배치 작업용)
+// - scatter : 샤드마다 가상 스레드에서 동시에 실행, 결과는 샤드 번호 순서 (목록 조회용)
+// 작업 안에서 쓰는 트랜잭션은 샤드마다 따로 시작해야 함 -> 이미 열린 트랜잭션은 한 샤드의 커넥션에 묶여 있음
+@Component
+public class ShardTemplate {
+
+    private final ShardRouter shardRouter;
+    private final ExecutorService executor;
+
+    public ShardTemplate(ObjectProvider<ShardRouter> shardRouter) {
+        this.shardRouter = shardRouter.getIfAvailable();
+        this.executor = this.shardRouter != null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    public boolean isSharded() {
+        return shardRouter != null;
+    }
+
+    public int getShardCount() {
+        return shardRouter != null ? shardRouter.getShardCount() : 1;
+    }
+
+    public void forEachShard(Runnable work) {
+        if (shardRouter == null) {
+            work.run();
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("트랜잭션 안에서는 샤드를 바꿔가며 실행할 수 없습니다.");
+        }
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            ShardContext.runOn(shard, work);
+        }
+    }
+
+    public <T> List<T> scatter(Supplier<T> work) {
+        if (shardRouter == null) {
+            return List.of(work.get());
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardRouter.getShardCount());
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> ShardContext.callOn(target, work), executor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
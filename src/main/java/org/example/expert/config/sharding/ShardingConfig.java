@@ -0,0 +1,62 @@
+package org.example.expert.config.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+// user_id 기준 수평 샤딩 (sharding.enabled=true 일 때만)
+// - users, 감사 로그 등 : 글로벌 DB (spring.datasource.*)
+// - todos, comments, managers (+ 요약/아웃박스/보관 테이블) : 작성자 user_id % 샤드 수 번째 샤드
+// - @ShardRouted 서비스 메서드가 샤드를 정하고, 지정이 없으면 글로벌 DB 사용
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(DataSourceProperties dataSourceProperties, ShardingProperties properties) {
+        HikariDataSource global = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        global.setPoolName("global");
+        return ShardDataSources.create(global, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ShardRoutingDataSource.GLOBAL, shardDataSources.getGlobal());
+        for (int i = 0; i < shardDataSources.getShards().size(); i++) {
+            targets.put(i, shardDataSources.getShards().get(i));
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.getGlobal());
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        return new ShardRouter(properties.getShards().size());
+    }
+
+    @Bean
+    public ShardRoutingAspect shardRoutingAspect(ShardRouter shardRouter) {
+        return new ShardRoutingAspect(shardRouter);
+    }
+
+    @Bean
+    public UserReferenceReplicator userReferenceReplicator(ShardDataSources shardDataSources, ShardingProperties properties) {
+        UserReferenceReplicator replicator = new UserReferenceReplicator(shardDataSources, properties.getUserSyncBatchSize());
+        replicator.syncAll();
+        return replicator;
+    }
+}
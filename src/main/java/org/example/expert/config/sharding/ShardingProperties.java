@@ -0,0 +1,31 @@
+package org.example.expert.config.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// application.yml 의 sharding.* 설정 바인딩
+// 글로벌 DB(users 등)는 기존 spring.datasource.* 를 그대로 사용
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+    // 순서가 곧 샤드 번호 -> 운영 중 순서 변경/추가 불가 (user_id % 샤드 수 로 배치되어 있음)
+    private List<Shard> shards = new ArrayList<>();
+    // 기동 시 글로벌 users 를 샤드로 복사할 때 한 번에 읽는 행 수
+    private int userSyncBatchSize = 1_000;
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.config.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 글로벌 users -> 각 샤드의 users 참조 복사본
+// 샤드의 todos/comments/managers 가 users 외래 키 + 작성자 이메일 JOIN 을 그대로 쓰도록
+// - 기동 시 전체 복사, 이후 User 저장/수정 커밋 직후 해당 행만 복사 (UserReplicationListener)
+// - 비밀번호는 복사하지 않음 (인증은 글로벌에서만)
+@Slf4j
+public class UserReferenceReplicator {
+
+    private static final String COLUMNS = "id, created_at, modified_at, email, nickname, user_role";
+    private static final String SELECT_PAGE_SQL = "SELECT " + COLUMNS + " FROM users WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_BY_IDS_SQL = "SELECT " + COLUMNS + " FROM users WHERE id IN (:ids)";
+    private static final String UPSERT_SQL = "INSERT INTO users (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE modified_at = VALUES(modified_at), email = VALUES(email), "
+            + "nickname = VALUES(nickname), user_role = VALUES(user_role)";
+
+    private final JdbcTemplate global;
+    private final List<JdbcTemplate> shards;
+    private final int batchSize;
+
+    public UserReferenceReplicator(ShardDataSources dataSources, int batchSize) {
+        this.global = new JdbcTemplate(dataSources.getGlobal());
+        this.shards = dataSources.getShards().stream().map(JdbcTemplate::new).toList();
+        this.batchSize = batchSize;
+    }
+
+    public void syncAll() {
+        long lastId = 0;
+        long copied = 0;
+        while (true) {
+            List<Map<String, Object>> rows = global.queryForList(SELECT_PAGE_SQL, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            upsert(rows);
+            copied += rows.size();
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+        log.info("샤드 users 참조 복사 완료: users={}, shards={}", copied, shards.size());
+    }
+
+    public void replicate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        upsert(new NamedParameterJdbcTemplate(global).queryForList(SELECT_BY_IDS_SQL, Map.of("ids", userIds)));
+    }
+
+    private void upsert(List<Map<String, Object>> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            args.add(new Object[]{row.get("id"), row.get("created_at"), row.get("modified_at"),
+                    row.get("email"), row.get("nickname"), row.get("user_role")});
+        }
+        for (JdbcTemplate shard : shards) {
+            shard.batchUpdate(UPSERT_SQL, args);
+        }
+    }
+}
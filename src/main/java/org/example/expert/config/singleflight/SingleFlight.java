@@ -0,0 +1,83 @@
+package org.example.expert.config.singleflight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 같은 키의 동시 조회를 하나로 합침 (single-flight)
+// - 처음 들어온 요청만 loader 실행, 실행 중에 들어온 같은 키 요청은 그 결과(또는 예외)를 함께 받음
+// - 결과를 보관하지 않음 (캐시 x) -> 로딩이 끝나면 다음 요청은 다시 조회
+// - 로딩 시작 이후에 커밋된 변경은 합쳐진 요청에 보이지 않을 수 있음 (최대 로딩 1회 분량의 지연)
+// - 결과 객체를 여러 요청이 공유하므로 변경 불가능한 값만 반환해야 함
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder merged = new LongAdder();
+
+    public SingleFlight(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        if (!enabled) {
+            loads.increment();
+            return loader.get();
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            merged.increment();
+            return join(running);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 처음 요청과 같은 예외 (ex. InvalidRequestException -> 400)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public SingleFlightStatsResponse getStats() {
+        long callCount = calls.sum();
+        long mergedCount = merged.sum();
+        return new SingleFlightStatsResponse(
+                name,
+                callCount,
+                loads.sum(),
+                mergedCount,
+                callCount == 0 ? 0.0 : (double) mergedCount / callCount,
+                inFlight.size()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.config.singleflight;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class SingleFlightController {
+
+    private final SingleFlightRegistry singleFlightRegistry;
+
+    // 조회별 전체 요청 수, 실제 DB 조회 수, 합쳐진 요청 수
+    @GetMapping("/admin/single-flight")
+    public ResponseEntity<List<SingleFlightStatsResponse>> getStats() {
+        return ResponseEntity.ok(singleFlightRegistry.getStats());
+    }
+}
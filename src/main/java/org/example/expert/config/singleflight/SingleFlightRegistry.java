@@ -0,0 +1,34 @@
+package org.example.expert.config.singleflight;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이름별 SingleFlight 생성 + 통계 모음 (GET /admin/single-flight)
+// single-flight.enabled=false : 합치지 않고 매번 조회 (비교 측정용)
+@Component
+public class SingleFlightRegistry {
+
+    private final boolean enabled;
+    private final Map<String, SingleFlight<?, ?>> flights = new ConcurrentHashMap<>();
+
+    public SingleFlightRegistry(@Value("${single-flight.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> SingleFlight<K, V> get(String name) {
+        return (SingleFlight<K, V>) flights.computeIfAbsent(name, n -> new SingleFlight<>(n, enabled));
+    }
+
+    public List<SingleFlightStatsResponse> getStats() {
+        return flights.values().stream()
+                .map(SingleFlight::getStats)
+                .sorted(Comparator.comparing(SingleFlightStatsResponse::getName))
+                .toList();
+    }
+}
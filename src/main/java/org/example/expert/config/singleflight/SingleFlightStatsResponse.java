@@ -0,0 +1,25 @@
+package org.example.expert.config.singleflight;
+
+import lombok.Getter;
+
+@Getter
+public class SingleFlightStatsResponse {
+
+    private final String name;
+    private final long calls;
+    // 실제 DB 조회 횟수
+    private final long loads;
+    // 다른 요청의 조회 결과를 함께 받은 횟수
+    private final long merged;
+    private final double mergedRatio;
+    private final int inFlight;
+
+    public SingleFlightStatsResponse(String name, long calls, long loads, long merged, double mergedRatio, int inFlight) {
+        this.name = name;
+        this.calls = calls;
+        this.loads = loads;
+        this.merged = merged;
+        this.mergedRatio = mergedRatio;
+        this.inFlight = inFlight;
+    }
+}
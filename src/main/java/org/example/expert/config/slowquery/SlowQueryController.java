@@ -0,0 +1,36 @@
+package org.example.expert.config.slowquery;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class SlowQueryController {
+
+    private final SlowQueryLog slowQueryLog;
+
+    // 최근 느린 쿼리 (최신순) + 실행 계획
+    @GetMapping("/admin/slow-queries")
+    public ResponseEntity<List<SlowQueryRecord>> getSlowQueries(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(slowQueryLog.getRecent(limit));
+    }
+
+    @GetMapping("/admin/slow-queries/stats")
+    public ResponseEntity<SlowQueryStatsResponse> getStats() {
+        return ResponseEntity.ok(slowQueryLog.getStats());
+    }
+
+    @DeleteMapping("/admin/slow-queries")
+    public ResponseEntity<Void> clear() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
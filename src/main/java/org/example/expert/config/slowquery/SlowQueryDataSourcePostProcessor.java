@@ -0,0 +1,34 @@
+package org.example.expert.config.slowquery;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// DataSource 빈을 쿼리 실행 시간 측정 프록시로 감쌈 (JPA, JdbcTemplate 모두 적용)
+// SlowQueryLog 는 DataSource 생성 시점에 꺼냄 -> BeanPostProcessor 가 일반 빈을 일찍 초기화하지 않도록
+@Component
+@ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new SlowQueryListener(slowQueryLog.getObject(), dataSource))
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.config.slowquery;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.example.expert.aop.RepositoryCallTrackingAspect;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 실행 시간이 기준을 넘은 쿼리만 SlowQueryLog 에 기록
+// 빠른 쿼리는 시간 비교 한 번으로 끝 -> 평소 오버헤드 최소
+class SlowQueryListener implements QueryExecutionListener {
+
+    private final SlowQueryLog slowQueryLog;
+    // EXPLAIN 용 원본 DataSource (프록시를 거치면 EXPLAIN 자체도 수집 대상이 됨)
+    private final DataSource targetDataSource;
+
+    SlowQueryListener(SlowQueryLog slowQueryLog, DataSource targetDataSource) {
+        this.slowQueryLog = slowQueryLog;
+        this.targetDataSource = targetDataSource;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < slowQueryLog.getThresholdMs()) {
+            return;
+        }
+        String repositoryMethod = RepositoryCallTrackingAspect.currentRepositoryMethod();
+        for (QueryInfo queryInfo : queryInfoList) {
+            // 배치면 첫 파라미터 묶음 기준
+            List<Object> parameters = queryInfo.getParametersList().isEmpty()
+                    ? List.of()
+                    : parameterValues(queryInfo.getParametersList().get(0));
+            SlowQueryRecord record = new SlowQueryRecord(
+                    slowQueryLog.nextId(),
+                    LocalDateTime.now(),
+                    execInfo.getElapsedTime(),
+                    queryInfo.getQuery(),
+                    parameters.stream().map(SlowQueryListener::shapeOf).toList(),
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 1,
+                    execInfo.isSuccess(),
+                    repositoryMethod
+            );
+            slowQueryLog.add(record, parameters, targetDataSource);
+        }
+    }
+
+    private static List<Object> parameterValues(List<ParameterSetOperation> operations) {
+        List<ParameterSetOperation> sorted = new ArrayList<>(operations);
+        sorted.sort(Comparator.comparingInt(operation -> ((Number) operation.getArgs()[0]).intValue()));
+        List<Object> values = new ArrayList<>(sorted.size());
+        for (ParameterSetOperation operation : sorted) {
+            Object[] args = operation.getArgs();
+            values.add(ParameterSetOperation.isSetNullParameterOperation(operation) ? null : args[1]);
+        }
+        return values;
+    }
+
+    // ex. "Long", "String(12)", "null"
+    private static String shapeOf(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.expert.config.slowquery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 느린 쿼리 보관 (최근 capacity 건, 오래된 것부터 덮어씀) + EXPLAIN 비동기 수집
+// - EXPLAIN 은 전용 스레드 1개에서 원본(프록시 아닌) DataSource 로 실행 -> 요청 스레드 지연 x, 재귀 수집 x
+// - 같은 SQL 의 실행 계획은 일정 시간 캐시 -> 반복되는 느린 쿼리마다 EXPLAIN 하지 않음
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final int EXPLAIN_QUEUE_SIZE = 100;
+
+    private final long thresholdMs;
+    private final boolean explainEnabled;
+    private final AtomicReferenceArray<SlowQueryRecord> ring;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<String, String> explainPlans;
+    private final ExecutorService explainExecutor;
+    private final LongAdder explainDropped = new LongAdder();
+
+    public SlowQueryLog(
+            @Value("${slow-query.threshold:PT0.2S}") Duration threshold,
+            @Value("${slow-query.capacity:200}") int capacity,
+            @Value("${slow-query.explain:true}") boolean explainEnabled
+    ) {
+        this.thresholdMs = threshold.toMillis();
+        this.explainEnabled = explainEnabled;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.explainPlans = Caffeine.newBuilder()
+                .maximumSize(500)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+        this.explainExecutor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE),
+                Thread.ofPlatform().name("slow-query-explain").daemon().factory(),
+                (task, executor) -> explainDropped.increment()
+        );
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    public long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    // parameters : EXPLAIN 바인딩용 실제 값 (저장하지 않고 EXPLAIN 후 버림)
+    public void add(SlowQueryRecord record, List<Object> parameters, DataSource explainDataSource) {
+        ring.set((int) (record.getId() % ring.length()), record);
+        log.warn("느린 쿼리 {}ms [{}]: {}", record.getElapsedMs(), record.getRepositoryMethod(), record.getSql());
+
+        if (!explainEnabled || !isSelect(record.getSql())) {
+            return;
+        }
+        String cached = explainPlans.getIfPresent(record.getSql());
+        if (cached != null) {
+            record.setExplainPlan(cached);
+            return;
+        }
+        // 큐가 가득 차면 거부 핸들러가 건수만 세고 버림 (예외 x)
+        explainExecutor.execute(() -> explain(record, parameters, explainDataSource));
+    }
+
+    // 최신순
+    public List<SlowQueryRecord> getRecent(int limit) {
+        long last = sequence.get();
+        List<SlowQueryRecord> records = new ArrayList<>();
+        for (long id = last; id > 0 && id > last - ring.length() && records.size() < limit; id--) {
+            SlowQueryRecord record = ring.get((int) (id % ring.length()));
+            if (record != null && record.getId() == id) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+
+    // 기준 시간, 지금까지 기록된 느린 쿼리 수, 큐가 가득 차 건너뛴 EXPLAIN 수
+    public SlowQueryStatsResponse getStats() {
+        return new SlowQueryStatsResponse(thresholdMs, sequence.get(), explainDropped.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void explain(SlowQueryRecord record, List<Object> parameters, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + record.getSql())) {
+            connection.setReadOnly(true);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                String plan = formatPlan(resultSet);
+                explainPlans.put(record.getSql(), plan);
+                record.setExplainPlan(plan);
+            }
+        } catch (SQLException e) {
+            log.debug("EXPLAIN 실패: {}", record.getSql(), e);
+        }
+    }
+
+    // 행마다 "컬럼=값, ..." (MySQL : id/type/key/rows/Extra.., H2 : PLAN)
+    private static String formatPlan(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        StringBuilder plan = new StringBuilder();
+        while (resultSet.next()) {
+            if (!plan.isEmpty()) {
+                plan.append('\n');
+            }
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                if (column > 1) {
+                    plan.append(", ");
+                }
+                plan.append(metaData.getColumnLabel(column)).append('=').append(resultSet.getString(column));
+            }
+        }
+        return plan.toString();
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.config.slowquery;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 느린 쿼리 1건 (파라미터 값은 저장하지 않고 타입만 -> 개인정보 노출 방지)
+@Getter
+public class SlowQueryRecord {
+
+    private final long id;
+    private final LocalDateTime occurredAt;
+    private final long elapsedMs;
+    private final String sql;
+    private final List<String> parameterShapes;
+    private final int batchSize;
+    private final boolean success;
+    private final String repositoryMethod;
+    // EXPLAIN 은 비동기로 채워짐 (SELECT 가 아니거나 실패 시 null 유지)
+    private volatile String explainPlan;
+
+    public SlowQueryRecord(long id, LocalDateTime occurredAt, long elapsedMs, String sql, List<String> parameterShapes,
+                           int batchSize, boolean success, String repositoryMethod) {
+        this.id = id;
+        this.occurredAt = occurredAt;
+        this.elapsedMs = elapsedMs;
+        this.sql = sql;
+        this.parameterShapes = parameterShapes;
+        this.batchSize = batchSize;
+        this.success = success;
+        this.repositoryMethod = repositoryMethod;
+    }
+
+    void setExplainPlan(String explainPlan) {
+        this.explainPlan = explainPlan;
+    }
+}
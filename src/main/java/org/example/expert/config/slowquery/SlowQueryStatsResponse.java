@@ -0,0 +1,17 @@
+package org.example.expert.config.slowquery;
+
+import lombok.Getter;
+
+@Getter
+public class SlowQueryStatsResponse {
+
+    private final long thresholdMs;
+    private final long recorded;
+    private final long explainDropped;
+
+    public SlowQueryStatsResponse(long thresholdMs, long recorded, long explainDropped) {
+        this.thresholdMs = thresholdMs;
+        this.recorded = recorded;
+        this.explainDropped = explainDropped;
+    }
+}
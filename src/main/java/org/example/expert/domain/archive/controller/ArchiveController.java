@@ -0,0 +1,30 @@
+package org.example.expert.domain.archive.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.archive.dto.response.ArchiveRunResponse;
+import org.example.expert.domain.archive.dto.response.ArchiveStatsResponse;
+import org.example.expert.domain.archive.service.TodoArchiveService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class ArchiveController {
+
+    private final TodoArchiveService todoArchiveService;
+
+    @PostMapping("/admin/archive/run")
+    public ResponseEntity<ArchiveRunResponse> run(@RequestParam(defaultValue = "10") int maxChunks) {
+        return ResponseEntity.ok(todoArchiveService.run(maxChunks));
+    }
+
+    @GetMapping("/admin/archive/stats")
+    public ResponseEntity<ArchiveStatsResponse> getStats() {
+        return ResponseEntity.ok(todoArchiveService.getStats());
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.archive.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ArchiveRunResponse {
+
+    private final long todos;
+    private final long comments;
+    private final long managers;
+    private final int chunks;
+    // false 면 청크 수 제한에 걸려 대상이 더 남아 있음
+    private final boolean completed;
+    private final long elapsedMs;
+
+    public ArchiveRunResponse(long todos, long comments, long managers, int chunks, boolean completed, long elapsedMs) {
+        this.todos = todos;
+        this.comments = comments;
+        this.managers = managers;
+        this.chunks = chunks;
+        this.completed = completed;
+        this.elapsedMs = elapsedMs;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.archive.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ArchiveStatsResponse {
+
+    // 서버 기동 후 누적 이동 건수
+    private final long archivedTodos;
+    private final long archivedComments;
+    private final long archivedManagers;
+    private final boolean running;
+    private final ArchiveRunResponse lastRun;
+
+    public ArchiveStatsResponse(long archivedTodos, long archivedComments, long archivedManagers, boolean running,
+                                ArchiveRunResponse lastRun) {
+        this.archivedTodos = archivedTodos;
+        this.archivedComments = archivedComments;
+        this.archivedManagers = archivedManagers;
+        this.running = running;
+        this.lastRun = lastRun;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+// 보관된 댓글 (comments 에서 이동, 조회 전용)
+// 할 일도 함께 보관되므로 todo 는 연관관계 없이 id 만 보관
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "comments_archive")
+public class CommentArchive {
+
+    @Id
+    private Long id;
+    private String contents;
+    @Column(nullable = false)
+    private Long todoId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
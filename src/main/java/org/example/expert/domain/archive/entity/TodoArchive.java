@@ -0,0 +1,32 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+// 보관된 할 일 (todos 에서 이동, 조회 전용)
+// 이동은 TodoArchiveService 가 INSERT ... SELECT 로 처리
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todos_archive")
+public class TodoArchive {
+
+    @Id
+    private Long id;
+    private String title;
+    private String contents;
+    private String weather;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.CommentArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Set;
+
+public interface CommentArchiveRepository extends JpaRepository<CommentArchive, Long> {
+
+    @Query("SELECT c FROM CommentArchive c JOIN FETCH c.user WHERE c.id IN :ids")
+    List<CommentArchive> findAllByIdInWithUser(@Param("ids") Set<Long> ids);
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ManagerArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ManagerArchiveRepository extends JpaRepository<ManagerArchive, Long> {
+
+    @Query("SELECT m FROM ManagerArchive m JOIN FETCH m.user WHERE m.id IN :ids")
+    List<ManagerArchive> findAllByIdInWithUser(@Param("ids") Set<Long> ids);
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.TodoArchive;
+import org.example.expert.domain.todo.dto.response.TodoDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface TodoArchiveRepository extends JpaRepository<TodoArchive, Long> {
+
+    @Query("SELECT t FROM TodoArchive t JOIN FETCH t.user WHERE t.id = :todoId")
+    Optional<TodoArchive> findByIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT t FROM TodoArchive t JOIN FETCH t.user WHERE t.id IN :ids")
+    List<TodoArchive> findAllByIdInWithUser(@Param("ids") Set<Long> ids);
+
+    // TodoRepository.countByCreatedDateAndWeather 와 같은 집계 (요약 테이블 재계산 시 보관분 포함)
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoDailyCount("
+            + "CAST(t.createdAt AS LocalDate), COALESCE(t.weather, 'Unknown'), COUNT(t)) "
+            + "FROM TodoArchive t WHERE t.createdAt >= :start AND t.createdAt < :end "
+            + "GROUP BY CAST(t.createdAt AS LocalDate), COALESCE(t.weather, 'Unknown')")
+    List<TodoDailyCount> countByCreatedDateAndWeather(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+}
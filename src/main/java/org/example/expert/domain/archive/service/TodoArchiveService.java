@@ -0,0 +1,220 @@
+package org.example.expert.domain.archive.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.archive.dto.response.ArchiveRunResponse;
+import org.example.expert.domain.archive.dto.response.ArchiveStatsResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.service.TodoListResponseCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 오래된 할 일 보관 (todos, comments, managers -> *_archive)
+// - 대상 : modified_at 이 min-age 보다 오래된 할 일
+// - chunk-size 개씩 한 트랜잭션 : 대상 id 잠금(SKIP LOCKED) -> INSERT ... SELECT 3번 -> 자식부터 DELETE 3번
+//   -> 청크가 작으므로 잠금 시간, 언두 로그, 복제 지연이 짧음
+// - 청크 사이 대기 : max(pause-between-chunks, 직전 청크 소요 시간) -> DB 사용 시간을 최대 절반으로 제한
+// - 샤딩 모드 : 청크마다 모든 샤드에서 chunk-size 개씩 이동
+// - 변경 피드(change_log)에는 기록하지 않음 -> 보관은 삭제가 아니며 GET /todos/{todoId} 로 계속 조회 가능
+@Slf4j
+@Service
+public class TodoArchiveService {
+
+    private static final String SELECT_CHUNK_SQL = "SELECT id FROM todos WHERE modified_at < :cutoff "
+            + "ORDER BY modified_at LIMIT :limit FOR UPDATE SKIP LOCKED";
+    private static final String ARCHIVE_TODOS_SQL = "INSERT INTO todos_archive "
+            + "(id, created_at, modified_at, user_id, contents, title, weather, archived_at) "
+            + "SELECT id, created_at, modified_at, user_id, contents, title, weather, :archivedAt FROM todos WHERE id IN (:ids)";
+    private static final String ARCHIVE_COMMENTS_SQL = "INSERT INTO comments_archive "
+            + "(id, created_at, modified_at, todo_id, user_id, contents, archived_at) "
+            + "SELECT id, created_at, modified_at, todo_id, user_id, contents, :archivedAt FROM comments WHERE todo_id IN (:ids)";
+    private static final String ARCHIVE_MANAGERS_SQL = "INSERT INTO managers_archive (id, todo_id, user_id, archived_at) "
+            + "SELECT id, todo_id, user_id, :archivedAt FROM managers WHERE todo_id IN (:ids)";
+    private static final String DELETE_COMMENTS_SQL = "DELETE FROM comments WHERE todo_id IN (:ids)";
+    private static final String DELETE_MANAGERS_SQL = "DELETE FROM managers WHERE todo_id IN (:ids)";
+    private static final String DELETE_TODOS_SQL = "DELETE FROM todos WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardTemplate shardTemplate;
+    private final TodoListResponseCache todoListResponseCache;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration pauseBetweenChunks;
+    // 스케줄 실행과 관리자 수동 실행이 겹치지 않도록
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private final LongAdder archivedTodos = new LongAdder();
+    private final LongAdder archivedComments = new LongAdder();
+    private final LongAdder archivedManagers = new LongAdder();
+    private volatile ArchiveRunResponse lastRun;
+
+    public TodoArchiveService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ShardTemplate shardTemplate,
+            TodoListResponseCache todoListResponseCache,
+            @Value("${archive.enabled:false}") boolean enabled,
+            @Value("${archive.min-age:P365D}") Duration minAge,
+            @Value("${archive.chunk-size:500}") int chunkSize,
+            @Value("${archive.max-chunks-per-run:2000}") int maxChunksPerRun,
+            @Value("${archive.pause-between-chunks:PT0.1S}") Duration pauseBetweenChunks
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardTemplate = shardTemplate;
+        this.todoListResponseCache = todoListResponseCache;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseBetweenChunks = pauseBetweenChunks;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (!enabled || !runLock.tryLock()) {
+            return;
+        }
+        try {
+            ArchiveRunResponse result = archive(maxChunksPerRun);
+            log.info("할 일 보관 완료: todos={}, comments={}, managers={}, chunks={}, elapsedMs={}",
+                    result.getTodos(), result.getComments(), result.getManagers(), result.getChunks(), result.getElapsedMs());
+        } catch (RuntimeException e) {
+            log.error("할 일 보관 실패", e);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    // 관리자 수동 실행 (요청 시간이 길어지지 않도록 청크 수 제한)
+    public ArchiveRunResponse run(int maxChunks) {
+        if (maxChunks < 1 || maxChunks > maxChunksPerRun) {
+            throw new InvalidRequestException("maxChunks 는 1 ~ " + maxChunksPerRun + " 사이여야 합니다.");
+        }
+        if (!runLock.tryLock()) {
+            throw new InvalidRequestException("보관 작업이 이미 실행 중입니다.");
+        }
+        try {
+            return archive(maxChunks);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private ArchiveRunResponse archive(int maxChunks) {
+        long startedAt = System.nanoTime();
+        // 실행 중 기준 시각이 움직이지 않도록 한 번만 계산
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        long todos = 0;
+        long comments = 0;
+        long managers = 0;
+        int chunks = 0;
+        boolean completed = false;
+
+        while (chunks < maxChunks) {
+            long chunkStartedAt = System.nanoTime();
+            long[] moved = archiveChunkOnEachShard(cutoff);
+            if (moved[0] == 0) {
+                completed = true;
+                break;
+            }
+            todos += moved[0];
+            comments += moved[1];
+            managers += moved[2];
+            chunks++;
+            // 모든 샤드에서 청크가 덜 찼으면 남은 대상 없음
+            if (moved[3] < chunkSize) {
+                completed = true;
+                break;
+            }
+            if (!pause(Duration.ofNanos(System.nanoTime() - chunkStartedAt))) {
+                break;
+            }
+        }
+
+        ArchiveRunResponse result = new ArchiveRunResponse(todos, comments, managers, chunks, completed,
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        lastRun = result;
+        return result;
+    }
+
+    // {할 일, 댓글, 담당자, 샤드 중 가장 많이 옮긴 할 일 수}
+    private long[] archiveChunkOnEachShard(LocalDateTime cutoff) {
+        long[] moved = new long[4];
+        shardTemplate.forEachShard(() -> {
+            long[] shardMoved = archiveChunk(cutoff);
+            moved[0] += shardMoved[0];
+            moved[1] += shardMoved[1];
+            moved[2] += shardMoved[2];
+            moved[3] = Math.max(moved[3], shardMoved[0]);
+        });
+        return moved;
+    }
+
+    // {할 일, 댓글, 담당자} 이동 건수
+    private long[] archiveChunk(LocalDateTime cutoff) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_CHUNK_SQL, new MapSqlParameterSource()
+                    .addValue("cutoff", Timestamp.valueOf(cutoff))
+                    .addValue("limit", chunkSize), Long.class);
+            if (ids.isEmpty()) {
+                return new long[]{0, 0, 0};
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+
+            int todos = jdbcTemplate.update(ARCHIVE_TODOS_SQL, params);
+            int comments = jdbcTemplate.update(ARCHIVE_COMMENTS_SQL, params);
+            int managers = jdbcTemplate.update(ARCHIVE_MANAGERS_SQL, params);
+            // 외래 키 때문에 자식 먼저 삭제
+            jdbcTemplate.update(DELETE_COMMENTS_SQL, params);
+            jdbcTemplate.update(DELETE_MANAGERS_SQL, params);
+            jdbcTemplate.update(DELETE_TODOS_SQL, params);
+
+            // 옮긴 할 일이 목록 1페이지 캐시에 있을 수 있음 (weather 필터 결과가 적은 경우 등)
+            todoListResponseCache.bumpVersion();
+
+            archivedTodos.add(todos);
+            archivedComments.add(comments);
+            archivedManagers.add(managers);
+            return new long[]{todos, comments, managers};
+        });
+    }
+
+    private boolean pause(Duration lastChunk) {
+        Duration pause = lastChunk.compareTo(pauseBetweenChunks) > 0 ? lastChunk : pauseBetweenChunks;
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public ArchiveStatsResponse getStats() {
+        return new ArchiveStatsResponse(
+                archivedTodos.sum(),
+                archivedComments.sum(),
+                archivedManagers.sum(),
+                runLock.isLocked(),
+                lastRun
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.example.expert.domain.audit.service.AdminAuditService;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private final AdminAuditService adminAuditService;
+
+    @GetMapping("/admin/audit-logs")
+    public ResponseEntity<PageResponse<AdminAuditLogResponse>> getAuditLogs(
+            @RequestParam(required = false) Long adminUserId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(adminAuditService.getAuditLogs(adminUserId, page, size));
+    }
+
+    @GetMapping("/admin/audit-logs/stats")
+    public ResponseEntity<AdminAuditStatsResponse> getStats() {
+        return ResponseEntity.ok(adminAuditService.getStats());
+    }
+}
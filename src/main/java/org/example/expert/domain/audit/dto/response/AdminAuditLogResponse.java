@@ -0,0 +1,32 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditLogResponse {
+
+    private final Long id;
+    private final Long adminUserId;
+    private final String adminEmail;
+    private final String action;
+    private final String requestMethod;
+    private final String requestUri;
+    private final Long targetId;
+    private final String detail;
+    private final LocalDateTime occurredAt;
+
+    public AdminAuditLogResponse(Long id, Long adminUserId, String adminEmail, String action, String requestMethod,
+                                 String requestUri, Long targetId, String detail, LocalDateTime occurredAt) {
+        this.id = id;
+        this.adminUserId = adminUserId;
+        this.adminEmail = adminEmail;
+        this.action = action;
+        this.requestMethod = requestMethod;
+        this.requestUri = requestUri;
+        this.targetId = targetId;
+        this.detail = detail;
+        this.occurredAt = occurredAt;
+    }
+}
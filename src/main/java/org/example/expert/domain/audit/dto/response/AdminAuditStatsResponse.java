@@ -0,0 +1,26 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class AdminAuditStatsResponse {
+
+    private final long enqueued;
+    private final long dropped;
+    private final long written;
+    private final long failed;
+    private final long batches;
+    private final int pending;
+    private final int capacity;
+
+    public AdminAuditStatsResponse(long enqueued, long dropped, long written, long failed, long batches,
+                                   int pending, int capacity) {
+        this.enqueued = enqueued;
+        this.dropped = dropped;
+        this.written = written;
+        this.failed = failed;
+        this.batches = batches;
+        this.pending = pending;
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 관리자 API 호출 감사 로그
+// INSERT 는 AdminAuditWriter 가 JDBC 배치로 처리 (IDENTITY 전략은 JPA 배치 insert 불가)
+// -> 이 엔티티는 테이블 생성, 조회 용도
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_audit_logs", indexes = {
+        @Index(name = "idx_admin_audit_logs_admin_user_id", columnList = "admin_user_id, id")
+})
+public class AdminAuditLog {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long adminUserId;
+    private String adminEmail;
+
+    @Column(nullable = false)
+    private String action;
+    private String requestMethod;
+    private String requestUri;
+    private Long targetId;
+    private String detail;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,13 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AdminAuditLogRepository extends JpaRepository<AdminAuditLog, Long> {
+
+    Page<AdminAuditLog> findAllByOrderByIdDesc(Pageable pageable);
+
+    Page<AdminAuditLog> findByAdminUserIdOrderByIdDesc(Long adminUserId, Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 요청 스레드에서 만들어 버퍼에 넣는 감사 이벤트 (불변)
+@Getter
+public class AdminAuditEvent {
+
+    private final Long adminUserId;
+    private final String adminEmail;
+    private final String action;
+    private final String requestMethod;
+    private final String requestUri;
+    private final Long targetId;
+    private final String detail;
+    private final LocalDateTime occurredAt;
+
+    public AdminAuditEvent(Long adminUserId, String adminEmail, String action, String requestMethod,
+                           String requestUri, Long targetId, String detail, LocalDateTime occurredAt) {
+        this.adminUserId = adminUserId;
+        this.adminEmail = adminEmail;
+        this.action = action;
+        this.requestMethod = requestMethod;
+        this.requestUri = requestUri;
+        this.targetId = targetId;
+        this.detail = detail;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+// 감사 로그 조회는 관리자만
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class AdminAuditService {
+
+    private final AdminAuditLogRepository adminAuditLogRepository;
+    private final AdminAuditWriter adminAuditWriter;
+
+    // 최신순 조회 (adminUserId 지정 시 해당 관리자만)
+    @Transactional(readOnly = true)
+    public PageResponse<AdminAuditLogResponse> getAuditLogs(Long adminUserId, int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Page<AdminAuditLog> logs = adminUserId == null
+                ? adminAuditLogRepository.findAllByOrderByIdDesc(pageable)
+                : adminAuditLogRepository.findByAdminUserIdOrderByIdDesc(adminUserId, pageable);
+
+        return PageResponse.from(logs.map(log -> new AdminAuditLogResponse(
+                log.getId(),
+                log.getAdminUserId(),
+                log.getAdminEmail(),
+                log.getAction(),
+                log.getRequestMethod(),
+                log.getRequestUri(),
+                log.getTargetId(),
+                log.getDetail(),
+                log.getOccurredAt()
+        )));
+    }
+
+    // 버퍼 적재/유실/저장 건수
+    public AdminAuditStatsResponse getStats() {
+        return adminAuditWriter.getStats();
+    }
+}
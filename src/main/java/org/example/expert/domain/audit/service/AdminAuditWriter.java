@@ -0,0 +1,136 @@
+package org.example.expert.domain.audit.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 감사 로그 비동기 기록
+// - 요청 스레드 : record() 로 링 버퍼에 넣고 바로 반환 (DB 대기 x)
+// - 백그라운드 : 주기적으로 버퍼를 비우며 batch-size 단위로 JDBC 배치 INSERT, 배치마다 한 번만 커밋
+// - 버퍼가 가득 차면 이벤트를 버리고 dropped 카운트 증가 (요청 지연보다 로그 유실을 택함)
+@Slf4j
+@Component
+public class AdminAuditWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO admin_audit_logs "
+            + "(admin_user_id, admin_email, action, request_method, request_uri, target_id, detail, occurred_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final AuditRingBuffer<AdminAuditEvent> buffer;
+    private final int batchSize;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    // 스케줄러와 종료 시 flush 가 겹치지 않도록 (소비자는 항상 1개)
+    // synchronized 대신 사용 -> 가상 스레드에서 JDBC 대기 중 캐리어 스레드 고정 방지
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public AdminAuditWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${audit.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    public void record(AdminAuditEvent event) {
+        if (buffer.offer(event)) {
+            enqueued.increment();
+            return;
+        }
+        dropped.increment();
+        log.warn("감사 로그 버퍼 가득 참 -> 이벤트 버림: action={}, adminUserId={}",
+                event.getAction(), event.getAdminUserId());
+    }
+
+    @Scheduled(fixedDelayString = "${audit.flush-interval:PT0.2S}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 이벤트 기록
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void drain() {
+        List<AdminAuditEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AdminAuditEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                        ps.setLong(1, event.getAdminUserId());
+                        ps.setString(2, event.getAdminEmail());
+                        ps.setString(3, event.getAction());
+                        ps.setString(4, event.getRequestMethod());
+                        ps.setString(5, event.getRequestUri());
+                        if (event.getTargetId() == null) {
+                            ps.setNull(6, Types.BIGINT);
+                        } else {
+                            ps.setLong(6, event.getTargetId());
+                        }
+                        ps.setString(7, event.getDetail());
+                        ps.setTimestamp(8, Timestamp.valueOf(event.getOccurredAt()));
+                    }));
+            written.add(batch.size());
+            batches.increment();
+        } catch (RuntimeException e) {
+            // 재시도하지 않음 -> 실패한 배치가 뒤 이벤트까지 막지 않도록
+            failed.add(batch.size());
+            log.error("감사 로그 배치 저장 실패: size={}", batch.size(), e);
+        }
+    }
+
+    public AdminAuditStatsResponse getStats() {
+        return new AdminAuditStatsResponse(
+                enqueued.sum(),
+                dropped.sum(),
+                written.sum(),
+                failed.sum(),
+                batches.sum(),
+                buffer.size(),
+                buffer.capacity()
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.domain.audit.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 크기 고정 lock-free 링 버퍼 (생산자 여러 개, 소비자 1개)
+// - 슬롯마다 시퀀스 번호를 두고 CAS 로 자리 확보 -> 요청 스레드는 락 대기 없음
+// - 가득 차면 offer 가 바로 false 반환 (요청을 막지 않고 버림)
+// - drainTo 는 한 스레드에서만 호출해야 함
+class AuditRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    // 슬롯 상태 : seq == 위치 -> 비어 있음, seq == 위치 + 1 -> 값 있음
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be >= 2");
+        }
+        // 인덱스 계산을 비트 연산으로 하기 위해 2의 거듭제곱으로 올림
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // 소비자가 아직 비우지 않은 슬롯 -> 가득 참
+                return false;
+            }
+            // diff > 0 : 다른 생산자가 먼저 가져감 -> 다시 시도
+        }
+    }
+
+    int drainTo(List<? super E> target, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0L, Math.min(capacity, tail.get() - head));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -13,6 +13,8 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserSearchIndex;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,15 +23,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AuthService {
 
+    private static final String DUPLICATE_EMAIL_MESSAGE = "이미 존재하는 이메일입니다.";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserSearchIndex userSearchIndex;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // Bloom filter 에 없으면 가입되지 않은 이메일이 확실 -> existsByEmail 쿼리 생략
+        // 있을 수도 있는 경우에만 DB 확인 (오탐 가능)
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
+            throw new InvalidRequestException(DUPLICATE_EMAIL_MESSAGE);
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -44,7 +53,16 @@ public class AuthService {
                 userRole,
                 signupRequest.getNickname()
         );
-        User savedUser = userRepository.save(newUser);
+        // 중복 여부의 최종 판단은 users.email 유니크 제약조건
+        // -> 동시 가입 경쟁으로 위 검사를 통과해도 여기서 걸러짐
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException(DUPLICATE_EMAIL_MESSAGE);
+        }
+        emailBloomFilter.put(savedUser.getEmail());
+        userSearchIndex.add(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname());
 
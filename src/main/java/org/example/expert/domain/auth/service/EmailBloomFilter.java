@@ -0,0 +1,124 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.projection.UserEmailView;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 가입된 이메일 Bloom filter
+// - mightContain == false : 가입되지 않은 이메일이 확실 -> existsByEmail 쿼리 생략
+// - mightContain == true  : 가입되었을 수도 있음(오탐 가능) -> DB 로 확인
+// 최종 중복 판단은 users.email 유니크 제약조건이 담당 (동시 가입 경쟁 포함)
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctionCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+    // 시작 시 로딩이 끝나기 전에는 모든 이메일을 "있을 수도 있음" 으로 취급
+    private volatile boolean ready = false;
+
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            @Value("${auth.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${auth.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        // m = -n * ln(p) / (ln 2)^2 , k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1L, (optimalBits + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashFunctionCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    // 애플리케이션 기동 후 id 기준 keyset 페이징으로 전체 이메일 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<UserEmailView> batch;
+        do {
+            batch = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+            for (UserEmailView user : batch) {
+                put(user.getEmail());
+                lastId = user.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        ready = true;
+        log.info("Email bloom filter loaded: {} emails, {} bits, {} hash functions",
+                insertions.get(), bitCount, hashFunctionCount);
+    }
+
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctionCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctionCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            setBit((int) (index >>> 6), 1L << index);
+        }
+        if (insertions.incrementAndGet() == expectedInsertions + 1) {
+            log.warn("Email bloom filter exceeded expected insertions ({}), false positive rate will grow", expectedInsertions);
+        }
+    }
+
+    // 락 없이 비트 세팅 (CAS)
+    private void setBit(int wordIndex, long mask) {
+        long word;
+        do {
+            word = bits.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    // 64bit FNV-1a + murmur3 finalizer (MySQL 기본 collation 이 대소문자 구분 x -> 소문자로 통일)
+    private static long hash(String email) {
+        byte[] bytes = email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
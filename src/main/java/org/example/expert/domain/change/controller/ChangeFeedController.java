@@ -0,0 +1,27 @@
+package org.example.expert.domain.change.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.change.dto.response.ChangeFeedResponse;
+import org.example.expert.domain.change.service.ChangeFeedService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    // 오프라인 클라이언트 동기화
+    // - 처음 : since 없이 요청 -> 응답의 nextToken 을 저장
+    // - 이후 : since=nextToken 으로 요청, hasMore 가 true 면 이어서 요청
+    @GetMapping("/todos/changes")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(changeFeedService.getChanges(since, size));
+    }
+}
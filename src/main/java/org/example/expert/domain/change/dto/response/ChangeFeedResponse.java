@@ -0,0 +1,21 @@
+package org.example.expert.domain.change.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ChangeFeedResponse {
+
+    private final List<ChangeItemResponse> changes;
+    // 다음 요청의 since 값 (변경이 없으면 요청한 since 그대로)
+    private final String nextToken;
+    // true 면 바로 다음 페이지 요청
+    private final boolean hasMore;
+
+    public ChangeFeedResponse(List<ChangeItemResponse> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+}
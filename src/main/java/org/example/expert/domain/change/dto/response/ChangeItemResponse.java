@@ -0,0 +1,31 @@
+package org.example.expert.domain.change.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.change.enums.ChangeEntityType;
+import org.example.expert.domain.change.enums.ChangeOperation;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ChangeItemResponse {
+
+    private final long seq;
+    private final ChangeEntityType entityType;
+    private final long entityId;
+    private final long todoId;
+    private final ChangeOperation operation;
+    private final LocalDateTime changedAt;
+    // UPSERT : 현재 상태 (TodoResponse / CommentResponse / ManagerResponse), DELETE : null
+    private final Object data;
+
+    public ChangeItemResponse(long seq, ChangeEntityType entityType, long entityId, long todoId,
+                              ChangeOperation operation, LocalDateTime changedAt, Object data) {
+        this.seq = seq;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.todoId = todoId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+        this.data = data;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.change.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.change.enums.ChangeEntityType;
+import org.example.expert.domain.change.enums.ChangeOperation;
+
+import java.time.LocalDateTime;
+
+// 할 일/댓글/담당자 변경 이력 (한 행 = 변경 1건)
+// INSERT 는 ChangeLogEntityListener 가 JDBC 로 처리 -> 이 엔티티는 조회 용도
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "change_log")
+public class ChangeLog {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeEntityType entityType;
+    @Column(nullable = false)
+    private Long entityId;
+    @Column(nullable = false)
+    private Long todoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeOperation operation;
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.change.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.change.enums.ChangeEntityType;
+import org.example.expert.domain.change.enums.ChangeOperation;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// Todo, Comment, Manager 의 INSERT/UPDATE/DELETE 직후 change_log 에 한 행 추가
+// - 엔티티 콜백이므로 서비스 코드 경로와 관계없이 기록 (cascade 로 생성/삭제되는 담당자, 댓글 포함)
+// - JdbcTemplate 은 현재 JPA 트랜잭션의 커넥션을 사용 -> 변경이 롤백되면 이력도 롤백
+// - JPQL 벌크 UPDATE/DELETE 는 콜백이 호출되지 않으므로 해당 경로에서 직접 기록해야 함
+// 스프링 빈으로 생성됨 (Hibernate SpringBeanContainer)
+public class ChangeLogEntityListener {
+
+    private static final String INSERT_SQL = "INSERT INTO change_log (entity_type, entity_id, todo_id, operation, changed_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeLogEntityListener(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onUpsert(Object entity) {
+        record(entity, ChangeOperation.UPSERT);
+    }
+
+    @PostRemove
+    public void onDelete(Object entity) {
+        record(entity, ChangeOperation.DELETE);
+    }
+
+    private void record(Object entity, ChangeOperation operation) {
+        ChangeEntityType entityType;
+        long entityId;
+        long todoId;
+        if (entity instanceof Todo todo) {
+            entityType = ChangeEntityType.TODO;
+            entityId = todo.getId();
+            todoId = todo.getId();
+        } else if (entity instanceof Comment comment) {
+            entityType = ChangeEntityType.COMMENT;
+            entityId = comment.getId();
+            todoId = comment.getTodo().getId();
+        } else if (entity instanceof Manager manager) {
+            entityType = ChangeEntityType.MANAGER;
+            entityId = manager.getId();
+            todoId = manager.getTodo().getId();
+        } else {
+            throw new IllegalArgumentException("변경 이력 대상이 아닌 엔티티: " + entity.getClass().getName());
+        }
+        jdbcTemplate.update(INSERT_SQL, entityType.name(), entityId, todoId, operation.name(),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.change.enums;
+
+public enum ChangeEntityType {
+    TODO,
+    COMMENT,
+    MANAGER
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.change.enums;
+
+public enum ChangeOperation {
+    // 생성 또는 수정 -> 클라이언트는 data 로 덮어씀
+    UPSERT,
+    // 삭제 (tombstone) -> data 없음
+    DELETE
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.change.repository;
+
+import org.example.expert.domain.change.entity.ChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    // PK 범위 조회 -> 전체 데이터 크기와 무관하게 변경 건수만큼만 읽음
+    @Query("SELECT c FROM ChangeLog c WHERE c.seq > :since ORDER BY c.seq")
+    List<ChangeLog> findAfter(@Param("since") long since, Limit limit);
+}
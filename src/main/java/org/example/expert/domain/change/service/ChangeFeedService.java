@@ -0,0 +1,282 @@
+package org.example.expert.domain.change.service;
+
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.archive.entity.CommentArchive;
+import org.example.expert.domain.archive.entity.ManagerArchive;
+import org.example.expert.domain.archive.entity.TodoArchive;
+import org.example.expert.domain.archive.repository.CommentArchiveRepository;
+import org.example.expert.domain.archive.repository.ManagerArchiveRepository;
+import org.example.expert.domain.archive.repository.TodoArchiveRepository;
+import org.example.expert.domain.change.dto.response.ChangeFeedResponse;
+import org.example.expert.domain.change.dto.response.ChangeItemResponse;
+import org.example.expert.domain.change.entity.ChangeLog;
+import org.example.expert.domain.change.enums.ChangeEntityType;
+import org.example.expert.domain.change.enums.ChangeOperation;
+import org.example.expert.domain.change.repository.ChangeLogRepository;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// since 이후 변경 목록 (할 일, 댓글, 담당자를 seq 순서로 하나의 피드로)
+// - seq(auto_increment)는 INSERT 시점에 발급되고 커밋 순서와 다를 수 있음
+//   -> 번호가 비어 있는데 그 뒤 변경이 gap-grace 보다 최근이면, 아직 커밋 전인 트랜잭션일 수 있으므로 빈 번호 앞에서 멈춤
+//   -> gap-grace 가 지난 빈 번호는 롤백으로 버려진 번호로 보고 건너뜀
+//   -> changed_at 은 커밋이 아닌 flush 시점이므로 gap-grace 는 트랜잭션 제한 시간(spring.transaction.default-timeout)보다 길어야 함
+//      (시작할 때 확인, 더 긴 timeout 을 따로 준 쓰기 트랜잭션이 있으면 그 값 기준으로 늘려야 함)
+// - 한 페이지 안에서 같은 엔티티가 여러 번 바뀌면 마지막 변경만 반환
+// - 보관된 할 일/댓글/담당자는 삭제가 아님 -> 원본 테이블에 없으면 보관 테이블에서 채움
+// - 샤딩 모드 미지원 : seq 가 샤드마다 따로 발급되어 하나의 토큰으로 이어 읽을 수 없음
+@Service
+@Transactional(readOnly = true)
+public class ChangeFeedService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final CommentRepository commentRepository;
+    private final CommentArchiveRepository commentArchiveRepository;
+    private final ManagerRepository managerRepository;
+    private final ManagerArchiveRepository managerArchiveRepository;
+    private final ShardTemplate shardTemplate;
+    private final Duration gapGrace;
+    private final int maxPageSize;
+
+    public ChangeFeedService(
+            ChangeLogRepository changeLogRepository,
+            TodoRepository todoRepository,
+            TodoArchiveRepository todoArchiveRepository,
+            CommentRepository commentRepository,
+            CommentArchiveRepository commentArchiveRepository,
+            ManagerRepository managerRepository,
+            ManagerArchiveRepository managerArchiveRepository,
+            ShardTemplate shardTemplate,
+            @Value("${change-feed.gap-grace:PT5S}") Duration gapGrace,
+            @Value("${change-feed.max-page-size:500}") int maxPageSize,
+            PlatformTransactionManager transactionManager
+    ) {
+        requireGapGraceOverTransactionTimeout(gapGrace, transactionManager);
+        this.changeLogRepository = changeLogRepository;
+        this.todoRepository = todoRepository;
+        this.todoArchiveRepository = todoArchiveRepository;
+        this.commentRepository = commentRepository;
+        this.commentArchiveRepository = commentArchiveRepository;
+        this.managerRepository = managerRepository;
+        this.managerArchiveRepository = managerArchiveRepository;
+        this.shardTemplate = shardTemplate;
+        this.gapGrace = gapGrace;
+        this.maxPageSize = maxPageSize;
+    }
+
+    // 제한 시간이 없거나 gap-grace 보다 길면 커밋 대기 중인 변경의 seq 를 롤백된 번호로 보고 영영 건너뛸 수 있음
+    private static void requireGapGraceOverTransactionTimeout(Duration gapGrace, PlatformTransactionManager transactionManager) {
+        int timeoutSeconds = transactionManager instanceof AbstractPlatformTransactionManager manager
+                ? manager.getDefaultTimeout()
+                : TransactionDefinition.TIMEOUT_DEFAULT;
+        if (timeoutSeconds == TransactionDefinition.TIMEOUT_DEFAULT) {
+            throw new IllegalStateException("변경 피드를 사용하려면 spring.transaction.default-timeout 을 change-feed.gap-grace 보다 짧게 설정해야 합니다.");
+        }
+        if (gapGrace.compareTo(Duration.ofSeconds(timeoutSeconds)) <= 0) {
+            throw new IllegalStateException("change-feed.gap-grace(" + gapGrace + ") 는 spring.transaction.default-timeout("
+                    + timeoutSeconds + "s) 보다 길어야 합니다.");
+        }
+    }
+
+    public ChangeFeedResponse getChanges(String sinceToken, int size) {
+        if (shardTemplate.isSharded()) {
+            throw new InvalidRequestException("샤딩 모드에서는 변경 피드를 지원하지 않습니다.");
+        }
+        long since = parseToken(sinceToken);
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidRequestException("size 는 1 ~ " + maxPageSize + " 사이여야 합니다.");
+        }
+
+        List<ChangeLog> rows = changeLogRepository.findAfter(since, Limit.of(size + 1));
+        LocalDateTime graceBoundary = LocalDateTime.now().minus(gapGrace);
+
+        List<ChangeLog> visible = new ArrayList<>(Math.min(rows.size(), size));
+        long previousSeq = since;
+        boolean hasMore = rows.size() > size;
+        for (ChangeLog row : rows) {
+            if (visible.size() == size) {
+                break;
+            }
+            if (row.getSeq() != previousSeq + 1 && row.getChangedAt().isAfter(graceBoundary)) {
+                // 앞 번호가 아직 커밋 전일 수 있음 -> 다음 요청에서 다시 확인
+                hasMore = false;
+                break;
+            }
+            visible.add(row);
+            previousSeq = row.getSeq();
+        }
+
+        return new ChangeFeedResponse(toItems(visible), String.valueOf(previousSeq), hasMore);
+    }
+
+    private long parseToken(String sinceToken) {
+        if (sinceToken == null || sinceToken.isBlank()) {
+            return 0L;
+        }
+        try {
+            long since = Long.parseLong(sinceToken);
+            if (since < 0) {
+                throw new NumberFormatException();
+            }
+            return since;
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 since 토큰입니다.");
+        }
+    }
+
+    private List<ChangeItemResponse> toItems(List<ChangeLog> rows) {
+        // 같은 엔티티는 마지막 변경만 (seq 순서 유지)
+        Map<String, ChangeLog> latest = new LinkedHashMap<>();
+        for (ChangeLog row : rows) {
+            String key = row.getEntityType() + ":" + row.getEntityId();
+            latest.remove(key);
+            latest.put(key, row);
+        }
+
+        // 엔티티 종류별로 한 번에 조회 (변경 건수만큼 개별 조회 x)
+        Map<ChangeEntityType, Set<Long>> upsertIds = new EnumMap<>(ChangeEntityType.class);
+        for (ChangeLog row : latest.values()) {
+            if (row.getOperation() == ChangeOperation.UPSERT) {
+                upsertIds.computeIfAbsent(row.getEntityType(), k -> new HashSet<>()).add(row.getEntityId());
+            }
+        }
+        Map<Long, TodoResponse> todos = loadTodos(upsertIds.getOrDefault(ChangeEntityType.TODO, Set.of()));
+        Map<Long, CommentResponse> comments = loadComments(upsertIds.getOrDefault(ChangeEntityType.COMMENT, Set.of()));
+        Map<Long, ManagerResponse> managers = loadManagers(upsertIds.getOrDefault(ChangeEntityType.MANAGER, Set.of()));
+
+        List<ChangeItemResponse> items = new ArrayList<>(latest.size());
+        for (ChangeLog row : latest.values()) {
+            Object data = null;
+            ChangeOperation operation = row.getOperation();
+            if (operation == ChangeOperation.UPSERT) {
+                data = switch (row.getEntityType()) {
+                    case TODO -> todos.get(row.getEntityId());
+                    case COMMENT -> comments.get(row.getEntityId());
+                    case MANAGER -> managers.get(row.getEntityId());
+                };
+                // 그 사이 삭제됨 -> 삭제 이력은 뒤에 있지만 지금 tombstone 으로 알려도 결과는 같음
+                if (data == null) {
+                    operation = ChangeOperation.DELETE;
+                }
+            }
+            items.add(new ChangeItemResponse(row.getSeq(), row.getEntityType(), row.getEntityId(), row.getTodoId(),
+                    operation, row.getChangedAt(), data));
+        }
+        return items;
+    }
+
+    private Map<Long, TodoResponse> loadTodos(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, TodoResponse> todos = todoRepository.findAllByIdInWithUser(ids).stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .collect(Collectors.toMap(TodoResponse::getId, Function.identity()));
+        // 보관된 할 일은 삭제가 아님 -> 보관 테이블에서 채움
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(todos.keySet());
+        if (!missing.isEmpty()) {
+            todos = new HashMap<>(todos);
+            for (TodoArchive archived : todoArchiveRepository.findAllByIdInWithUser(missing)) {
+                todos.put(archived.getId(), new TodoResponse(
+                        archived.getId(),
+                        archived.getTitle(),
+                        archived.getContents(),
+                        archived.getWeather(),
+                        new UserResponse(archived.getUser().getId(), archived.getUser().getEmail()),
+                        archived.getCreatedAt(),
+                        archived.getModifiedAt()
+                ));
+            }
+        }
+        return todos;
+    }
+
+    private Map<Long, CommentResponse> loadComments(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, CommentResponse> comments = commentRepository.findAllByIdInWithUser(ids).stream()
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                ))
+                .collect(Collectors.toMap(CommentResponse::getId, Function.identity()));
+        // 할 일과 함께 보관된 댓글
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(comments.keySet());
+        if (!missing.isEmpty()) {
+            comments = new HashMap<>(comments);
+            for (CommentArchive archived : commentArchiveRepository.findAllByIdInWithUser(missing)) {
+                comments.put(archived.getId(), new CommentResponse(
+                        archived.getId(),
+                        archived.getContents(),
+                        new UserResponse(archived.getUser().getId(), archived.getUser().getEmail())
+                ));
+            }
+        }
+        return comments;
+    }
+
+    private Map<Long, ManagerResponse> loadManagers(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ManagerResponse> managers = managerRepository.findAllByIdInWithUser(ids).stream()
+                .map(manager -> new ManagerResponse(
+                        manager.getId(),
+                        new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())
+                ))
+                .collect(Collectors.toMap(ManagerResponse::getId, Function.identity()));
+        // 할 일과 함께 보관된 담당자
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(managers.keySet());
+        if (!missing.isEmpty()) {
+            managers = new HashMap<>(managers);
+            for (ManagerArchive archived : managerArchiveRepository.findAllByIdInWithUser(missing)) {
+                managers.put(archived.getId(), new ManagerResponse(
+                        archived.getId(),
+                        new UserResponse(archived.getUser().getId(), archived.getUser().getEmail())
+                ));
+            }
+        }
+        return managers;
+    }
+}
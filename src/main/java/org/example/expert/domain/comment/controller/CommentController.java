@@ -2,14 +2,18 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.Idempotent;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamHub;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,7 +22,10 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
 
+    // Idempotency-Key 헤더로 재시도 시 중복 생성 방지
+    @Idempotent
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
             // [2-9] @Auth -> @AuthenticationPrincipal 로 변경
@@ -34,4 +41,17 @@ public class CommentController {
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    // 새 댓글 실시간 수신 (목록 반복 조회 대신 사용)
+    // - 처음 연결 : 목록 조회 후 마지막 댓글 id 를 lastEventId 로 전달
+    // - 재연결 : 브라우저 EventSource 가 Last-Event-ID 헤더를 자동으로 전달
+    // - resync 이벤트 : 놓친 댓글이 너무 많음 -> 목록을 다시 조회 (연결은 유지)
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(required = false) Long lastEventId
+    ) {
+        return commentStreamHub.subscribe(todoId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentReactiveService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+// 반응형 읽기 API : 한 줄에 댓글 하나씩 (NDJSON)
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class CommentReactiveController {
+
+    private final CommentReactiveService commentReactiveService;
+
+    @GetMapping(value = "/reactive/todos/{todoId}/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CommentResponse> getComments(@PathVariable long todoId) {
+        return commentReactiveService.getComments(todoId);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.comment.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentStreamStatsResponse;
+import org.example.expert.domain.comment.service.CommentStreamHub;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class CommentStreamAdminController {
+
+    private final CommentStreamHub commentStreamHub;
+
+    @GetMapping("/admin/comment-streams/stats")
+    public ResponseEntity<CommentStreamStatsResponse> getStats() {
+        return ResponseEntity.ok(commentStreamHub.getStats());
+    }
+}
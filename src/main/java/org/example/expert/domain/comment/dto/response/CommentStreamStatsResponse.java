@@ -0,0 +1,24 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentStreamStatsResponse {
+
+    private final int subscribers;
+    private final int todos;
+    private final long delivered;
+    private final long droppedSlowConsumers;
+    private final long resyncs;
+    private final int stalledSends;
+
+    public CommentStreamStatsResponse(int subscribers, int todos, long delivered, long droppedSlowConsumers, long resyncs,
+                                      int stalledSends) {
+        this.subscribers = subscribers;
+        this.todos = todos;
+        this.delivered = delivered;
+        this.droppedSlowConsumers = droppedSlowConsumers;
+        this.resyncs = resyncs;
+        this.stalledSends = stalledSends;
+    }
+}
@@ -3,12 +3,14 @@ package org.example.expert.domain.comment.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.change.entity.ChangeLogEntityListener;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
+@EntityListeners(ChangeLogEntityListener.class)
 @NoArgsConstructor
 @Table(name = "comments")
 public class Comment extends Timestamped {
@@ -0,0 +1,41 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+import org.example.expert.domain.outbox.event.DomainEvent;
+
+// 댓글 작성 (할 일 단위로 묶이도록 aggregate 는 Todo)
+// 아웃박스 디스패처 -> CommentStreamOutboxListener -> CommentStreamHub 로 실시간 전달
+@Getter
+public class CommentCreatedEvent implements DomainEvent {
+
+    public static final String TYPE = "COMMENT_CREATED";
+
+    private final long commentId;
+    private final long todoId;
+    private final long userId;
+    private final String userEmail;
+    private final String contents;
+
+    public CommentCreatedEvent(long commentId, long todoId, long userId, String userEmail, String contents) {
+        this.commentId = commentId;
+        this.todoId = todoId;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.contents = contents;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "Todo";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return todoId;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+}
@@ -1,11 +1,13 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Set;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
@@ -15,4 +17,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // @Query("SELECT c FROM Comment c JOIN c.user WHERE c.todo.id = :todoId") => N+1 문제 발생
     @Query("SELECT DISTINCT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 실시간 스트림 재연결 시 놓친 댓글 (Last-Event-ID 이후)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId AND c.id > :lastId ORDER BY c.id")
+    List<Comment> findByTodoIdWithUserAfter(@Param("todoId") Long todoId, @Param("lastId") Long lastId, Limit limit);
+
+    // 변경 피드 : 바뀐 댓글만 한 번에 조회
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id IN :ids")
+    List<Comment> findAllByIdInWithUser(@Param("ids") Set<Long> ids);
 }
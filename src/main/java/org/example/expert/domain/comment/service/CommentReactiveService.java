@@ -0,0 +1,38 @@
+package org.example.expert.domain.comment.service;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+// GET /reactive/todos/{todoId}/comments : 댓글 목록을 R2DBC 로 조회해 id 순서로 한 건씩 흘려보냄
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class CommentReactiveService {
+
+    // idx_comments_todo_id 사용
+    private static final String SELECT_SQL = "SELECT c.id, c.contents, u.id AS user_id, u.email "
+            + "FROM comments c JOIN users u ON u.id = c.user_id WHERE c.todo_id = :todoId ORDER BY c.id";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<CommentResponse> getComments(long todoId) {
+        return reactiveDatabaseClient.sql(SELECT_SQL)
+                .bind("todoId", todoId)
+                .map(CommentReactiveService::toResponse)
+                .all();
+    }
+
+    private static CommentResponse toResponse(Readable row) {
+        return new CommentResponse(
+                row.get("id", Long.class),
+                row.get("contents", String.class),
+                new UserResponse(row.get("user_id", Long.class), row.get("email", String.class))
+        );
+    }
+}
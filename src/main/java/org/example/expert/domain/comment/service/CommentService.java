@@ -1,18 +1,25 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.sharding.ShardKey;
+import org.example.expert.config.sharding.ShardRouted;
+import org.example.expert.config.singleflight.SingleFlightRegistry;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentCreatedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.outbox.service.OutboxEventPublisher;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -25,9 +32,13 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final SingleFlightRegistry singleFlightRegistry;
 
+    // 샤딩 모드 : 댓글은 할 일과 같은 샤드에 저장
+    @ShardRouted
     @Transactional
-    public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+    public CommentSaveResponse saveComment(AuthUser authUser, @ShardKey(ShardKey.Type.TODO) long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
                 new InvalidRequestException("Todo not found"));
@@ -39,6 +50,10 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        CommentCreatedEvent event = new CommentCreatedEvent(
+                savedComment.getId(), todo.getId(), user.getId(), user.getEmail(), savedComment.getContents());
+        // 커밋 후 아웃박스 디스패처가 실시간 구독자에게 전달 (CommentStreamOutboxListener)
+        outboxEventPublisher.publish(event);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,7 +62,15 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
+    // 같은 할 일의 댓글 목록 동시 요청은 한 번만 조회 (조회 쿼리 1개 -> 트랜잭션 없이 리포지토리 호출)
+    @ShardRouted
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CommentResponse> getComments(@ShardKey(ShardKey.Type.TODO) long todoId) {
+        return singleFlightRegistry.<Long, List<CommentResponse>>get("comments")
+                .execute(todoId, () -> loadComments(todoId));
+    }
+
+    private List<CommentResponse> loadComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
         List<CommentResponse> dtoList = new ArrayList<>();
@@ -60,6 +83,21 @@ public class CommentService {
             );
             dtoList.add(dto);
         }
+        // 합쳐진 요청들이 같은 목록을 공유 -> 변경 불가
+        return List.copyOf(dtoList);
+    }
+
+    @ShardRouted
+    public List<CommentResponse> getCommentsAfter(@ShardKey(ShardKey.Type.TODO) long todoId, long lastCommentId, int limit) {
+        List<CommentResponse> dtoList = new ArrayList<>();
+        for (Comment comment : commentRepository.findByTodoIdWithUserAfter(todoId, lastCommentId, Limit.of(limit))) {
+            User user = comment.getUser();
+            dtoList.add(new CommentResponse(
+                    comment.getId(),
+                    comment.getContents(),
+                    new UserResponse(user.getId(), user.getEmail())
+            ));
+        }
         return dtoList;
     }
 }
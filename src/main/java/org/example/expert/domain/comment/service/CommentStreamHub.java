@@ -0,0 +1,372 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentStreamStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 할 일별 새 댓글 실시간 전달 (Server-Sent Events)
+// - 연결 : SseEmitter (서블릿 비동기 처리) -> 대기 중인 연결은 요청 스레드를 점유하지 않음
+// - 구독 목록 : todoId -> 구독자 Set (ConcurrentHashMap) / 아웃박스로 전달된 댓글을 해당 할 일 구독자에게만 전달
+//   (CommentStreamOutboxListener : 커밋된 댓글만, outbox.poll-interval 만큼 지연)
+// - 구독자마다 크기가 정해진 큐 + 전송 작업은 최대 1개만 실행 -> 큐가 가득 찰 만큼 느린 클라이언트는 연결 종료
+// - SseEmitter.send 는 소켓에 쓸 때까지 전송 스레드를 붙잡음 -> send-timeout 을 넘긴 쓰기도 느린 클라이언트로 보고 종료
+//   멈춘 스레드는 소켓 쓰기 타임아웃(server.tomcat.connection-timeout)까지 돌아오지 않으므로 그만큼 전송 스레드를 추가
+//   (최대 sender-threads 개까지 -> 그보다 많은 클라이언트가 동시에 멈추면 남은 구독자의 전송도 지연)
+// - 재연결 시 Last-Event-ID(댓글 id) 이후 댓글을 DB 에서 먼저 보내고, 같은 댓글의 실시간 이벤트만 건너뜀
+//   (id 는 커밋이 아닌 INSERT 시점에 정해지므로 실시간 이벤트는 id 순서와 무관하게 모두 전달)
+//   놓친 댓글이 replay-limit 을 넘으면 보내지 않고 resync 이벤트 -> 클라이언트가 GET /todos/{todoId}/comments 로 다시 조회
+// - 이 서버의 디스패처가 가져간 댓글만 전달 (서버가 여러 대면 다른 서버 구독자는 재연결 시 DB 에서 보충)
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    // 댓글이 아닌 이벤트 (하트비트, resync)
+    private static final long NON_COMMENT_ID = -1L;
+    // Subscriber.sendStartedAt : 전송 중이 아님 / 제한 시간을 넘겨 종료 처리됨
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MAX_VALUE;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final CommentService commentService;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int clientBufferSize;
+    private final int replayPageSize;
+    private final int replayLimit;
+    private final Duration sendTimeout;
+    private final int senderThreads;
+    // SseEmitter.send 는 synchronized -> 가상 스레드에서 느린 소켓 쓰기 중 캐리어가 고정되므로 플랫폼 스레드 사용
+    private final ThreadPoolExecutor sender;
+    // 제한 시간을 넘겨 멈춰 있는 전송 수 (sender 스레드 수 조정, resizeSender 에서만 변경)
+    private int stalledSends;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder droppedSlowConsumers = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+
+    public CommentStreamHub(
+            CommentService commentService,
+            ObjectMapper objectMapper,
+            @Value("${comment-stream.timeout:PT30M}") Duration timeout,
+            @Value("${comment-stream.client-buffer-size:64}") int clientBufferSize,
+            @Value("${comment-stream.replay-page-size:100}") int replayPageSize,
+            @Value("${comment-stream.replay-limit:1000}") int replayLimit,
+            @Value("${comment-stream.sender-threads:16}") int senderThreads,
+            @Value("${comment-stream.send-timeout:PT5S}") Duration sendTimeout
+    ) {
+        this.commentService = commentService;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.clientBufferSize = clientBufferSize;
+        this.replayPageSize = replayPageSize;
+        this.replayLimit = replayLimit;
+        this.sendTimeout = sendTimeout;
+        this.senderThreads = senderThreads;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 평소에는 sender-threads 개, 멈춘 전송이 있으면 최대 두 배까지 (resizeSender)
+        this.sender = new ThreadPoolExecutor(
+                senderThreads, senderThreads * 2, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "comment-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public SseEmitter subscribe(long todoId, Long lastEventId) {
+        return subscribe(todoId, lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(long todoId, Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = register(todoId, emitter);
+        // 등록 후 조회 -> 조회와 등록 사이에 저장된 댓글도 빠지지 않음 (DB 에서 보낸 댓글의 실시간 이벤트는 건너뜀)
+        List<CommentResponse> backlog = lastEventId == null
+                ? List.of()
+                : readBacklog(todoId, lastEventId);
+        if (backlog == null) {
+            resync(subscriber);
+        } else {
+            start(subscriber, backlog);
+        }
+        return emitter;
+    }
+
+    // Last-Event-ID 이후 댓글을 replay-page-size 씩 끝까지 읽음 -> replay-limit 을 넘으면 null (재동기화 대상)
+    private List<CommentResponse> readBacklog(long todoId, long lastEventId) {
+        List<CommentResponse> backlog = new ArrayList<>();
+        long cursor = lastEventId;
+        while (true) {
+            // 한도 + 1 개까지만 읽어 넘는지 판단
+            int limit = Math.min(replayPageSize, replayLimit + 1 - backlog.size());
+            List<CommentResponse> page = commentService.getCommentsAfter(todoId, cursor, limit);
+            backlog.addAll(page);
+            if (backlog.size() > replayLimit) {
+                return null;
+            }
+            if (page.size() < limit) {
+                return backlog;
+            }
+            cursor = page.get(page.size() - 1).getId();
+        }
+    }
+
+    Subscriber register(long todoId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(todoId, emitter, clientBufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(todoId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        return subscriber;
+    }
+
+    void start(Subscriber subscriber, List<CommentResponse> backlog) {
+        for (CommentResponse comment : backlog) {
+            subscriber.backlog.add(toEvent(comment));
+            subscriber.replayedIds.add(comment.getId());
+        }
+        subscriber.started = true;
+        schedule(subscriber);
+    }
+
+    // 놓친 댓글 대신 resync 이벤트를 먼저 보냄 (연결은 유지 -> 이후 실시간 댓글은 그대로 전달)
+    void resync(Subscriber subscriber) {
+        resyncs.increment();
+        subscriber.backlog.add(new StreamEvent(NON_COMMENT_ID, SseEmitter.event()
+                .name("resync")
+                .data("/todos/" + subscriber.todoId + "/comments")
+                .build()));
+        subscriber.started = true;
+        schedule(subscriber);
+    }
+
+    public void broadcast(long todoId, CommentResponse comment) {
+        Set<Subscriber> targets = subscribers.get(todoId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        // 직렬화는 댓글당 한 번 -> 구독자 수와 무관
+        StreamEvent event = toEvent(comment);
+        for (Subscriber subscriber : targets) {
+            offer(subscriber, event);
+        }
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 끊김 방지 + 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${comment-stream.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        StreamEvent ping = new StreamEvent(NON_COMMENT_ID, SseEmitter.event().comment("ping").build());
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            // 하트비트 때문에 느린 클라이언트가 끊기지 않도록 큐가 차 있으면 생략
+            if (subscriber.queue.offer(ping)) {
+                schedule(subscriber);
+            }
+        }));
+    }
+
+    // send-timeout 을 넘긴 전송 -> 느린 클라이언트로 보고 종료 + 멈춘 스레드 대신 전송할 스레드 추가
+    @Scheduled(fixedDelayString = "${comment-stream.stall-check-interval:PT1S}")
+    public void closeStalledSends() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            long startedAt = subscriber.sendStartedAt.get();
+            if (startedAt == IDLE || startedAt == STALLED || now - startedAt <= sendTimeout.toNanos()) {
+                return;
+            }
+            // 그 사이 전송이 끝났으면 CAS 실패 -> 종료하지 않음
+            if (subscriber.sendStartedAt.compareAndSet(startedAt, STALLED)) {
+                droppedSlowConsumers.increment();
+                log.debug("전송이 멈춘 구독자 연결 종료: todoId={}", subscriber.todoId);
+                // 실제 종료(complete)는 전송이 돌아온 뒤 전송 작업이 처리 (send 와 같은 락)
+                subscriber.closed = true;
+                remove(subscriber);
+                resizeSender(1);
+            }
+        }));
+    }
+
+    private synchronized void resizeSender(int delta) {
+        stalledSends += delta;
+        sender.setCorePoolSize(senderThreads + Math.min(stalledSends, senderThreads));
+    }
+
+    private void offer(Subscriber subscriber, StreamEvent event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            droppedSlowConsumers.increment();
+            log.debug("느린 구독자 연결 종료: todoId={}", subscriber.todoId);
+            // 실제 종료(complete)는 전송 작업이 처리 -> 여기서는 더 이상 이벤트를 받지 않도록만 표시
+            subscriber.closed = true;
+            remove(subscriber);
+            schedule(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.started && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    // 구독자 한 명의 큐를 비움 (동시에 하나만 실행 -> 전송 순서 보장)
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                StreamEvent event;
+                while ((event = subscriber.next()) != null) {
+                    if (subscriber.closed) {
+                        subscriber.emitter.complete();
+                        return;
+                    }
+                    send(subscriber, event);
+                    delivered.increment();
+                }
+                if (subscriber.closed) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+                subscriber.draining.set(false);
+                // 플래그를 내린 사이 들어온 이벤트가 있으면 이어서 처리
+                if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊음
+            subscriber.closed = true;
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void send(Subscriber subscriber, StreamEvent event) throws IOException {
+        subscriber.sendStartedAt.set(System.nanoTime());
+        try {
+            subscriber.emitter.send(event.data);
+        } finally {
+            // 멈춘 것으로 처리된 전송이 돌아옴 -> 추가했던 스레드 반납
+            if (subscriber.sendStartedAt.getAndSet(IDLE) == STALLED) {
+                resizeSender(-1);
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> targets = subscribers.get(subscriber.todoId);
+        if (targets != null && targets.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            if (targets.isEmpty()) {
+                subscribers.remove(subscriber.todoId, targets);
+            }
+        }
+    }
+
+    private StreamEvent toEvent(CommentResponse comment) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(comment);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("댓글 직렬화 실패: " + comment.getId(), e);
+        }
+        return new StreamEvent(comment.getId(), SseEmitter.event()
+                .id(String.valueOf(comment.getId()))
+                .name("comment")
+                .data(json, MediaType.APPLICATION_JSON)
+                .build());
+    }
+
+    public CommentStreamStatsResponse getStats() {
+        return new CommentStreamStatsResponse(
+                subscriberCount.get(),
+                subscribers.size(),
+                delivered.sum(),
+                droppedSlowConsumers.sum(),
+                resyncs.sum(),
+                stalledSends()
+        );
+    }
+
+    private synchronized int stalledSends() {
+        return stalledSends;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private record StreamEvent(long id, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+    }
+
+    static final class Subscriber {
+
+        private final long todoId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<StreamEvent> queue;
+        // 재연결 시 DB 에서 읽은 댓글 (실시간 큐보다 먼저 전송, 전송 스레드만 접근)
+        private final ArrayDeque<StreamEvent> backlog = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 진행 중인 send 의 시작 시각 (System.nanoTime, 전송 중이 아니면 IDLE)
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+        private volatile boolean started;
+        private volatile boolean closed;
+        // DB 에서 보낸 댓글 id -> 같은 댓글의 실시간 이벤트를 한 번 건너뛴 뒤 제거 (전송 스레드만 접근)
+        private final Set<Long> replayedIds = new HashSet<>();
+
+        private Subscriber(long todoId, SseEmitter emitter, int bufferSize) {
+            this.todoId = todoId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private StreamEvent next() {
+            StreamEvent event = backlog.poll();
+            if (event != null) {
+                return event;
+            }
+            while ((event = queue.poll()) != null) {
+                if (event.id == NON_COMMENT_ID || replayedIds.isEmpty() || !replayedIds.remove(event.id)) {
+                    return event;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.event.CommentCreatedEvent;
+import org.example.expert.domain.outbox.event.OutboxEventListener;
+import org.example.expert.domain.outbox.event.OutboxMessage;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.stereotype.Component;
+
+// 아웃박스의 댓글 작성 이벤트 -> 실시간 구독자에게 전달
+// - 큐에 넣기만 하고 반환 (전송은 CommentStreamHub 의 전송 스레드) -> 디스패처 배치 트랜잭션을 오래 잡지 않음
+// - 재전달(at-least-once)되면 같은 댓글이 다시 갈 수 있음 -> 클라이언트는 댓글 id 로 중복 제거
+@Component
+@RequiredArgsConstructor
+public class CommentStreamOutboxListener implements OutboxEventListener {
+
+    private final CommentStreamHub commentStreamHub;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String eventType) {
+        return CommentCreatedEvent.TYPE.equals(eventType);
+    }
+
+    @Override
+    public void onEvent(OutboxMessage message) {
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("댓글 이벤트 역직렬화 실패: " + message.getId(), e);
+        }
+        commentStreamHub.broadcast(payload.get("todoId").asLong(), new CommentResponse(
+                payload.get("commentId").asLong(),
+                payload.get("contents").asText(),
+                new UserResponse(payload.get("userId").asLong(), payload.get("userEmail").asText())
+        ));
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+// 목록 API 공통 페이지 응답
+// Page(PageImpl) 를 그대로 내보내면 Pageable/Sort 내부 구조까지 직렬화됨 -> 필요한 값만 고정된 형태로
+@Getter
+public class PageResponse<T> {
+
+    private final List<T> content;
+    // 요청과 같은 1부터 시작하는 페이지 번호
+    private final int page;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean hasNext;
+
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages, boolean hasNext) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber() + 1,
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.hasNext()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.idempotency.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.idempotency.enums.IdempotencyStatus;
+
+import java.time.LocalDateTime;
+
+// Idempotency-Key 한 개의 처리 상태와 응답
+// PROCESSING 으로 먼저 INSERT(키 선점) -> 처리 후 COMPLETED + 응답 저장, 실패하면 행 삭제
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private String idempotencyKey;
+    // 같은 키로 다른 요청을 보내는 실수 감지용 (메서드 + URI + 요청 본문의 SHA-256)
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IdempotencyStatus status;
+    private Integer responseStatus;
+    @Column(length = 4000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord(Long userId, String idempotencyKey, String requestHash, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.status = IdempotencyStatus.PROCESSING;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.idempotency.enums;
+
+public enum IdempotencyStatus {
+    // 첫 요청이 처리 중 (다른 서버의 같은 키 요청은 완료될 때까지 대기)
+    PROCESSING,
+    // 응답 저장 완료 -> 같은 키 요청은 저장된 응답 반환
+    COMPLETED
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.idempotency.repository;
+
+import org.example.expert.domain.idempotency.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // 만료되지 않은 키만 (정리 작업 전에 남아 있는 만료 행은 재사용하지 않음)
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.userId = :userId AND r.idempotencyKey = :idempotencyKey "
+            + "AND r.expiresAt > :now")
+    Optional<IdempotencyRecord> findActive(
+            @Param("userId") Long userId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("now") LocalDateTime now
+    );
+
+    // PROCESSING -> COMPLETED + 응답 저장
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = org.example.expert.domain.idempotency.enums.IdempotencyStatus.COMPLETED, "
+            + "r.responseStatus = :responseStatus, r.responseBody = :responseBody WHERE r.id = :id")
+    int complete(@Param("id") Long id, @Param("responseStatus") int responseStatus, @Param("responseBody") String responseBody);
+
+    // 처리 실패 -> 키 반납 (같은 키로 다시 요청 가능)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id "
+            + "AND r.status = org.example.expert.domain.idempotency.enums.IdempotencyStatus.PROCESSING")
+    int release(@Param("id") Long id);
+
+    // 서버가 처리 도중 죽어 남은 PROCESSING 행 정리 (processing-timeout 보다 오래된 것만)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.userId = :userId AND r.idempotencyKey = :idempotencyKey "
+            + "AND r.status = org.example.expert.domain.idempotency.enums.IdempotencyStatus.PROCESSING AND r.createdAt < :before")
+    int deleteAbandoned(
+            @Param("userId") Long userId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("before") LocalDateTime before
+    );
+
+    // 정리 작업 전의 만료된 행 삭제 -> 같은 키로 다시 선점할 수 있도록
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.userId = :userId AND r.idempotencyKey = :idempotencyKey "
+            + "AND r.expiresAt <= :now")
+    int deleteExpired(
+            @Param("userId") Long userId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -0,0 +1,228 @@
+package org.example.expert.domain.idempotency.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.config.jdbc.ChunkedDelete;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.idempotency.entity.IdempotencyRecord;
+import org.example.expert.domain.idempotency.enums.IdempotencyStatus;
+import org.example.expert.domain.idempotency.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+// Idempotency-Key 별 요청 1회 처리 + 응답 재사용
+// 1. 완료된 응답 : 크기 제한 있는 메모리 캐시 -> 없으면 DB(idempotency_keys)에서 조회
+// 2. 같은 서버에서 처리 중인 같은 키 : 첫 요청의 결과를 기다렸다가 그대로 반환
+// 3. 다른 서버에서 처리 중인 같은 키 : DB 의 PROCESSING 행이 COMPLETED 가 될 때까지 대기
+// - 성공(2xx) 응답만 저장, 예외/실패 시 키 반납 -> 같은 키로 다시 시도 가능
+// - 같은 키로 다른 요청(메서드, URI, 본문이 다름)을 보내면 400
+// - expires_at 이 지난 키는 정리 작업 전이라도 없는 키로 취급 -> 새 요청으로 처리
+// - 쓰기 트랜잭션 커밋과 응답 저장은 별도 -> 그 사이 서버가 죽으면 processing-timeout 후 다시 처리될 수 있음
+@Component
+public class IdempotencyStore {
+
+    private static final String CLEANUP_SQL = "DELETE FROM idempotency_keys WHERE expires_at < ? LIMIT ?";
+    private static final int CLEANUP_CHUNK_SIZE = 1_000;
+    private static final int MAX_BODY_LENGTH = 4000;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final Duration waitTimeout;
+    private final Duration processingTimeout;
+    private final Cache<Key, Entry> completed;
+    private final ConcurrentHashMap<Key, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${idempotency.cache-size:100000}") long cacheSize,
+            @Value("${idempotency.retention:P1D}") Duration retention,
+            @Value("${idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+            @Value("${idempotency.processing-timeout:PT1M}") Duration processingTimeout
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.waitTimeout = waitTimeout;
+        this.processingTimeout = processingTimeout;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    // recorder : 처리 결과 -> 저장할 응답, replayer : 저장된 응답 -> 반환 값
+    public <T> T execute(
+            long userId,
+            String idempotencyKey,
+            String requestHash,
+            Action<T> action,
+            Function<T, StoredResponse> recorder,
+            Function<StoredResponse, T> replayer
+    ) throws Throwable {
+        Key key = new Key(userId, idempotencyKey);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            Entry cached = completed.getIfPresent(key);
+            if (cached != null) {
+                return replayer.apply(cached.verify(requestHash));
+            }
+
+            CompletableFuture<Entry> mine = new CompletableFuture<>();
+            CompletableFuture<Entry> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                Entry result = await(running, deadline);
+                if (result != null) {
+                    return replayer.apply(result.verify(requestHash));
+                }
+                // 첫 요청이 실패했거나 저장할 수 없는 응답 -> 다시 시도
+                continue;
+            }
+
+            try {
+                return executeOwned(key, requestHash, deadline, action, recorder, replayer);
+            } finally {
+                mine.complete(completed.getIfPresent(key));
+                inFlight.remove(key, mine);
+            }
+        }
+    }
+
+    private <T> T executeOwned(
+            Key key,
+            String requestHash,
+            long deadline,
+            Action<T> action,
+            Function<T, StoredResponse> recorder,
+            Function<StoredResponse, T> replayer
+    ) throws Throwable {
+        IdempotencyRecord reserved = null;
+        while (reserved == null) {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyRecord> existing = idempotencyRecordRepository
+                    .findActive(key.userId(), key.idempotencyKey(), now);
+            if (existing.isEmpty()) {
+                reserved = reserve(key, requestHash);
+                if (reserved == null) {
+                    // 다른 서버가 먼저 선점했거나, 정리 전의 만료된 행이 키를 차지하고 있음
+                    idempotencyRecordRepository.deleteExpired(key.userId(), key.idempotencyKey(), now);
+                }
+                continue;
+            }
+
+            IdempotencyRecord record = existing.get();
+            if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                Entry entry = new Entry(record.getRequestHash(), new StoredResponse(record.getResponseStatus(), record.getResponseBody()));
+                completed.put(key, entry);
+                return replayer.apply(entry.verify(requestHash));
+            }
+            LocalDateTime abandonedBefore = LocalDateTime.now().minus(processingTimeout);
+            if (record.getCreatedAt().isBefore(abandonedBefore)) {
+                idempotencyRecordRepository.deleteAbandoned(key.userId(), key.idempotencyKey(), abandonedBefore);
+                continue;
+            }
+            if (!record.getRequestHash().equals(requestHash)) {
+                throw mismatch();
+            }
+            // 다른 서버가 처리 중
+            if (System.nanoTime() > deadline) {
+                throw new InvalidRequestException("같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+            }
+            sleep();
+        }
+
+        T result;
+        try {
+            result = action.run();
+        } catch (Throwable e) {
+            idempotencyRecordRepository.release(reserved.getId());
+            throw e;
+        }
+
+        StoredResponse response = recorder.apply(result);
+        if (response.isStorable(MAX_BODY_LENGTH)) {
+            idempotencyRecordRepository.complete(reserved.getId(), response.getStatus(), response.getBody());
+            completed.put(key, new Entry(requestHash, response));
+        } else {
+            idempotencyRecordRepository.release(reserved.getId());
+        }
+        return result;
+    }
+
+    // null : 다른 서버가 먼저 선점 -> 호출한 쪽에서 다시 조회
+    private IdempotencyRecord reserve(Key key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return idempotencyRecordRepository.saveAndFlush(
+                    new IdempotencyRecord(key.userId(), key.idempotencyKey(), requestHash, now, now.plus(retention)));
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    private Entry await(CompletableFuture<Entry> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new InvalidRequestException("같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidRequestException("같은 Idempotency-Key 요청을 기다리는 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidRequestException("같은 Idempotency-Key 요청을 기다리는 중 중단되었습니다.");
+        }
+    }
+
+    private static InvalidRequestException mismatch() {
+        return new InvalidRequestException("Idempotency-Key 가 다른 요청에 이미 사용되었습니다.");
+    }
+
+    // 만료된 키 삭제 -> 조회는 expires_at 으로 이미 걸러내므로 테이블 크기만 관리
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval:PT10M}")
+    public void cleanUp() {
+        ChunkedDelete.deleteInChunks(jdbcTemplate, CLEANUP_SQL, CLEANUP_CHUNK_SIZE, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws Throwable;
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private record Entry(String requestHash, StoredResponse response) {
+
+        StoredResponse verify(String actualRequestHash) {
+            if (!requestHash.equals(actualRequestHash)) {
+                throw mismatch();
+            }
+            return response;
+        }
+    }
+}
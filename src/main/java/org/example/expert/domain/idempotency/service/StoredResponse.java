@@ -0,0 +1,20 @@
+package org.example.expert.domain.idempotency.service;
+
+import lombok.Getter;
+
+// 저장/재사용되는 응답 (HTTP 상태 + JSON 본문)
+@Getter
+public class StoredResponse {
+
+    private final int status;
+    private final String body;
+
+    public StoredResponse(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    boolean isStorable(int maxBodyLength) {
+        return status >= 200 && status < 300 && body != null && body.length() <= maxBodyLength;
+    }
+}
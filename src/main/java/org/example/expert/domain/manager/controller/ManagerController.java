@@ -2,6 +2,7 @@ package org.example.expert.domain.manager.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.Idempotent;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
@@ -19,6 +20,8 @@ public class ManagerController {
 
     private final ManagerService managerService;
 
+    // Idempotency-Key 헤더로 재시도 시 중복 생성 방지
+    @Idempotent
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
             // [2-9] @Auth -> @AuthenticationPrincipal 로 변경
@@ -0,0 +1,25 @@
+package org.example.expert.domain.manager.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.service.ManagerReactiveService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+// 반응형 읽기 API : 한 줄에 담당자 하나씩 (NDJSON)
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class ManagerReactiveController {
+
+    private final ManagerReactiveService managerReactiveService;
+
+    @GetMapping(value = "/reactive/todos/{todoId}/managers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ManagerResponse> getManagers(@PathVariable long todoId) {
+        return managerReactiveService.getManagers(todoId);
+    }
+}
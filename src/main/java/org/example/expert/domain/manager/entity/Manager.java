@@ -3,11 +3,13 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.change.entity.ChangeLogEntityListener;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
+@EntityListeners(ChangeLogEntityListener.class)
 @NoArgsConstructor
 @Table(name = "managers")
 public class Manager {
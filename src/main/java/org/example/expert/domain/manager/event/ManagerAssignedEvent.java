@@ -0,0 +1,36 @@
+package org.example.expert.domain.manager.event;
+
+import lombok.Getter;
+import org.example.expert.domain.outbox.event.DomainEvent;
+
+// 담당자 등록 (할 일 단위로 묶이도록 aggregate 는 Todo)
+@Getter
+public class ManagerAssignedEvent implements DomainEvent {
+
+    public static final String TYPE = "MANAGER_ASSIGNED";
+
+    private final long managerId;
+    private final long todoId;
+    private final long managerUserId;
+
+    public ManagerAssignedEvent(long managerId, long todoId, long managerUserId) {
+        this.managerId = managerId;
+        this.todoId = todoId;
+        this.managerUserId = managerUserId;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "Todo";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return todoId;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+}
@@ -6,8 +6,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 변경 피드 : 바뀐 담당자만 한 번에 조회
+    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.id IN :ids")
+    List<Manager> findAllByIdInWithUser(@Param("ids") Set<Long> ids);
 }
@@ -0,0 +1,46 @@
+package org.example.expert.domain.manager.service;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+// GET /reactive/todos/{todoId}/managers : 담당자 목록을 R2DBC 로 조회해 id 순서로 한 건씩 흘려보냄
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class ManagerReactiveService {
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) AS todo_count FROM todos WHERE id = :todoId";
+    // uk_managers_todo_id_user_id 사용
+    private static final String SELECT_SQL = "SELECT m.id, u.id AS user_id, u.email "
+            + "FROM managers m JOIN users u ON u.id = m.user_id WHERE m.todo_id = :todoId ORDER BY m.id";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    // ManagerService.getManagers 와 같이 없는 할 일이면 400 (첫 행을 쓰기 전에 실패 -> 오류 응답)
+    public Flux<ManagerResponse> getManagers(long todoId) {
+        return reactiveDatabaseClient.sql(EXISTS_SQL)
+                .bind("todoId", todoId)
+                .map(row -> row.get("todo_count", Long.class))
+                .one()
+                .flatMapMany(count -> count == 0
+                        ? Flux.error(new InvalidRequestException("Todo not found"))
+                        : reactiveDatabaseClient.sql(SELECT_SQL)
+                                .bind("todoId", todoId)
+                                .map(ManagerReactiveService::toResponse)
+                                .all());
+    }
+
+    private static ManagerResponse toResponse(Readable row) {
+        return new ManagerResponse(
+                row.get("id", Long.class),
+                new UserResponse(row.get("user_id", Long.class), row.get("email", String.class))
+        );
+    }
+}
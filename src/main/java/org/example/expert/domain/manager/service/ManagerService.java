@@ -1,19 +1,27 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.sharding.ShardKey;
+import org.example.expert.config.sharding.ShardRouted;
+import org.example.expert.config.singleflight.SingleFlightRegistry;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.event.ManagerAssignedEvent;
+import org.example.expert.domain.manager.event.ManagerRemovedEvent;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.outbox.service.OutboxEventPublisher;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
@@ -28,9 +36,13 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final SingleFlightRegistry singleFlightRegistry;
 
+    // 샤딩 모드 : 담당자는 할 일과 같은 샤드에 저장 (담당자 유저는 샤드의 users 참조 복사본에서 조회)
+    @ShardRouted
     @Transactional
-    public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
+    public ManagerSaveResponse saveManager(AuthUser authUser, @ShardKey(ShardKey.Type.TODO) long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId)
@@ -48,7 +60,14 @@ public class ManagerService {
         }
 
         Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        Manager savedManagerUser;
+        // (todo_id, user_id) 유니크 제약 -> 이미 등록된 담당자면 400
+        try {
+            savedManagerUser = managerRepository.saveAndFlush(newManagerUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+        outboxEventPublisher.publish(new ManagerAssignedEvent(savedManagerUser.getId(), todo.getId(), managerUser.getId()));
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -56,11 +75,20 @@ public class ManagerService {
         );
     }
 
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    // 같은 할 일의 담당자 목록 동시 요청은 한 번만 조회 (리포지토리 호출마다 짧은 트랜잭션)
+    @ShardRouted
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ManagerResponse> getManagers(@ShardKey(ShardKey.Type.TODO) long todoId) {
+        return singleFlightRegistry.<Long, List<ManagerResponse>>get("managers")
+                .execute(todoId, () -> loadManagers(todoId));
+    }
+
+    private List<ManagerResponse> loadManagers(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todoId);
 
         List<ManagerResponse> dtoList = new ArrayList<>();
         for (Manager manager : managerList) {
@@ -70,11 +98,13 @@ public class ManagerService {
                     new UserResponse(user.getId(), user.getEmail())
             ));
         }
-        return dtoList;
+        // 합쳐진 요청들이 같은 목록을 공유 -> 변경 불가
+        return List.copyOf(dtoList);
     }
 
+    @ShardRouted
     @Transactional
-    public void deleteManager(AuthUser authUser, long todoId, long managerId) {
+    public void deleteManager(AuthUser authUser, @ShardKey(ShardKey.Type.TODO) long todoId, long managerId) {
         User user = User.fromAuthUser(authUser);
 
         Todo todo = todoRepository.findById(todoId)
@@ -92,5 +122,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        outboxEventPublisher.publish(new ManagerRemovedEvent(manager.getId(), todo.getId(), manager.getUser().getId()));
     }
 }
@@ -0,0 +1,29 @@
+package org.example.expert.domain.outbox.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.outbox.dto.response.OutboxStatsResponse;
+import org.example.expert.domain.outbox.service.OutboxDispatcher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class OutboxController {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @GetMapping("/admin/outbox/stats")
+    public ResponseEntity<OutboxStatsResponse> getStats() {
+        return ResponseEntity.ok(outboxDispatcher.getStats());
+    }
+
+    // FAILED 이벤트 전체를 다시 전달 대기로 변경 -> 재처리된 개수 반환
+    @PostMapping("/admin/outbox/failed/retry")
+    public ResponseEntity<Integer> retryFailed() {
+        return ResponseEntity.ok(outboxDispatcher.retryFailed());
+    }
+}
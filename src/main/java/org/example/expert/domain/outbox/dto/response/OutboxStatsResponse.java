@@ -0,0 +1,35 @@
+package org.example.expert.domain.outbox.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class OutboxStatsResponse {
+
+    // DB 기준 현재 상태
+    private final long pending;
+    private final long failed;
+    private final long oldestPendingAgeMs;
+    // 이 서버가 기동 후 처리한 누적 값
+    private final long dispatched;
+    private final long retried;
+    private final long deadLettered;
+    private final long batches;
+    // 이벤트 생성 -> 전달 완료 지연
+    private final long lagP50Ms;
+    private final long lagP99Ms;
+    private final long lagMaxMs;
+
+    public OutboxStatsResponse(long pending, long failed, long oldestPendingAgeMs, long dispatched, long retried,
+                               long deadLettered, long batches, long lagP50Ms, long lagP99Ms, long lagMaxMs) {
+        this.pending = pending;
+        this.failed = failed;
+        this.oldestPendingAgeMs = oldestPendingAgeMs;
+        this.dispatched = dispatched;
+        this.retried = retried;
+        this.deadLettered = deadLettered;
+        this.batches = batches;
+        this.lagP50Ms = lagP50Ms;
+        this.lagP99Ms = lagP99Ms;
+        this.lagMaxMs = lagMaxMs;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.outbox.enums.OutboxStatus;
+
+import java.time.LocalDateTime;
+
+// 트랜잭셔널 아웃박스 : 도메인 변경과 같은 트랜잭션에서 저장 -> 커밋된 변경만 이벤트로 전달됨
+// 전달 상태 변경(재시도, 완료 처리)은 OutboxDispatcher 가 JDBC 로 직접 처리
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_id", columnList = "status, id")
+})
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+    @Column(nullable = false)
+    private Long aggregateId;
+    @Column(nullable = false, length = 100)
+    private String eventType;
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+    private int attempts;
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+    private LocalDateTime dispatchedAt;
+
+    public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.createdAt = createdAt;
+        this.availableAt = createdAt;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.expert.domain.outbox.enums;
+
+public enum OutboxStatus {
+    // 전달 대기 (재시도 대기 포함)
+    PENDING,
+    // 모든 리스너에 전달 완료
+    DISPATCHED,
+    // 최대 재시도 횟수 초과 -> 관리자가 재처리 요청 전까지 보류
+    FAILED
+}
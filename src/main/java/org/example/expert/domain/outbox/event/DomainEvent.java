@@ -0,0 +1,19 @@
+package org.example.expert.domain.outbox.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// 아웃박스에 저장되는 도메인 이벤트
+// 구현 클래스의 나머지 필드가 JSON payload 로 저장됨
+public interface DomainEvent {
+
+    // 예) Todo, Comment, Manager
+    @JsonIgnore
+    String getAggregateType();
+
+    @JsonIgnore
+    Long getAggregateId();
+
+    // 예) TODO_CREATED -> 리스너가 처리 대상 판단에 사용
+    @JsonIgnore
+    String getEventType();
+}
@@ -0,0 +1,13 @@
+package org.example.expert.domain.outbox.event;
+
+// 아웃박스 이벤트 수신 (알림, 검색 색인 등) -> 빈으로 등록하면 OutboxDispatcher 가 자동으로 전달
+// - 배치 트랜잭션(행 잠금) 안에서 호출되므로 오래 걸리는 작업은 넘겨받아 비동기로 처리
+// - 예외를 던지면 해당 이벤트는 백오프 후 다시 전달됨
+public interface OutboxEventListener {
+
+    default boolean supports(String eventType) {
+        return true;
+    }
+
+    void onEvent(OutboxMessage message);
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.outbox.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 리스너에 전달되는 아웃박스 행
+// 같은 이벤트가 두 번 이상 전달될 수 있음 (at-least-once) -> 리스너는 id 기준으로 중복 처리에 안전해야 함
+@Getter
+public class OutboxMessage {
+
+    private final long id;
+    private final String aggregateType;
+    private final long aggregateId;
+    private final String eventType;
+    private final String payload;
+    private final int attempts;
+    private final LocalDateTime createdAt;
+
+    public OutboxMessage(long id, String aggregateType, long aggregateId, String eventType, String payload,
+                         int attempts, LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.attempts = attempts;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.outbox.repository;
+
+import org.example.expert.domain.outbox.entity.OutboxEvent;
+import org.example.expert.domain.outbox.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    long countByStatus(OutboxStatus status);
+
+    // 가장 오래 기다리고 있는 이벤트의 생성 시각 (지연 지표)
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o WHERE o.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAt(@Param("status") OutboxStatus status);
+
+    // FAILED -> PENDING (관리자 재처리)
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = org.example.expert.domain.outbox.enums.OutboxStatus.PENDING, "
+            + "o.attempts = 0, o.availableAt = :now WHERE o.status = org.example.expert.domain.outbox.enums.OutboxStatus.FAILED")
+    int retryFailed(@Param("now") LocalDateTime now);
+}
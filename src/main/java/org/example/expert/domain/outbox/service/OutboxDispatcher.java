@@ -0,0 +1,232 @@
+package org.example.expert.domain.outbox.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.aop.latency.LatencyHistogram;
+import org.example.expert.config.jdbc.ChunkedDelete;
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.outbox.dto.response.OutboxStatsResponse;
+import org.example.expert.domain.outbox.enums.OutboxStatus;
+import org.example.expert.domain.outbox.event.OutboxEventListener;
+import org.example.expert.domain.outbox.event.OutboxMessage;
+import org.example.expert.domain.outbox.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 아웃박스 이벤트 배치 전달
+// - PENDING 행을 id 순으로 batch-size 개 SELECT ... FOR UPDATE SKIP LOCKED
+//   -> 서버가 여러 대여도 다른 디스패처가 잡은 행은 건너뛰고 나머지를 가져감 (대기 없음)
+// - 같은 트랜잭션에서 리스너 호출 후 DISPATCHED 로 변경, 배치마다 한 번 커밋
+//   -> 커밋 전에 서버가 죽으면 잠금이 풀리고 다시 전달됨 (at-least-once)
+// - 리스너 예외 : attempts + 1, 지수 백오프 후 재시도 / max-attempts 초과 시 FAILED
+// - 여러 디스패처가 동시에 돌면 같은 할 일의 이벤트라도 순서가 바뀔 수 있음
+// - 샤딩 모드 : 이벤트는 할 일과 같은 샤드에 쌓이므로 샤드를 차례로 돌며 전달
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String CLAIM_SQL = "SELECT id, aggregate_type, aggregate_id, event_type, payload, attempts, created_at "
+            + "FROM outbox_events WHERE status = 'PENDING' AND available_at <= ? "
+            + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String DISPATCHED_SQL = "UPDATE outbox_events SET status = 'DISPATCHED', dispatched_at = ? WHERE id = ?";
+    private static final String RETRY_SQL = "UPDATE outbox_events SET status = ?, attempts = ?, available_at = ?, last_error = ? WHERE id = ?";
+    private static final String CLEANUP_SQL = "DELETE FROM outbox_events WHERE status = 'DISPATCHED' AND dispatched_at < ? LIMIT ?";
+    private static final int CLEANUP_CHUNK_SIZE = 1_000;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventListener> listeners;
+    private final ShardTemplate shardTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retryBackoffMax;
+    private final Duration retention;
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    // 이벤트 생성 -> 전달 완료까지 걸린 시간
+    private final LatencyHistogram lag = new LatencyHistogram("outbox.dispatch-lag", 1);
+
+    public OutboxDispatcher(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            OutboxEventRepository outboxEventRepository,
+            List<OutboxEventListener> listeners,
+            ShardTemplate shardTemplate,
+            @Value("${outbox.batch-size:100}") int batchSize,
+            @Value("${outbox.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${outbox.retry-backoff-max:PT5M}") Duration retryBackoffMax,
+            @Value("${outbox.retention:P7D}") Duration retention
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.shardTemplate = shardTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.retryBackoffMax = retryBackoffMax;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:PT0.5S}")
+    public void dispatch() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            shardTemplate.forEachShard(() -> {
+                // 꽉 찬 배치가 나오면 밀린 이벤트가 더 있다는 뜻 -> 바로 다음 배치
+                int claimed;
+                do {
+                    claimed = dispatchBatch();
+                } while (claimed == batchSize);
+            });
+        } catch (RuntimeException e) {
+            log.error("아웃박스 배치 처리 실패", e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    private int dispatchBatch() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMessage> batch = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, Timestamp.valueOf(now), batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<Object[]> succeeded = new ArrayList<>(batch.size());
+            List<Object[]> failed = new ArrayList<>();
+            for (OutboxMessage message : batch) {
+                RuntimeException error = deliver(message);
+                LocalDateTime deliveredAt = LocalDateTime.now();
+                if (error == null) {
+                    succeeded.add(new Object[]{Timestamp.valueOf(deliveredAt), message.getId()});
+                    lag.recordNanos(Duration.between(message.getCreatedAt(), deliveredAt).toNanos());
+                } else {
+                    failed.add(retryArgs(message, error, deliveredAt));
+                }
+            }
+            if (!succeeded.isEmpty()) {
+                jdbcTemplate.batchUpdate(DISPATCHED_SQL, succeeded);
+            }
+            if (!failed.isEmpty()) {
+                jdbcTemplate.batchUpdate(RETRY_SQL, failed);
+            }
+            return batch.size();
+        });
+        if (claimed != null && claimed > 0) {
+            batches.increment();
+        }
+        return claimed == null ? 0 : claimed;
+    }
+
+    private RuntimeException deliver(OutboxMessage message) {
+        for (OutboxEventListener listener : listeners) {
+            if (!listener.supports(message.getEventType())) {
+                continue;
+            }
+            try {
+                listener.onEvent(message);
+            } catch (RuntimeException e) {
+                // 앞선 리스너는 재시도 때 다시 호출됨 -> 리스너는 중복 수신에 안전해야 함
+                log.warn("아웃박스 이벤트 전달 실패: id={}, type={}, listener={}",
+                        message.getId(), message.getEventType(), listener.getClass().getSimpleName(), e);
+                return e;
+            }
+        }
+        dispatched.increment();
+        return null;
+    }
+
+    private Object[] retryArgs(OutboxMessage message, RuntimeException error, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        OutboxStatus status = OutboxStatus.PENDING;
+        if (attempts >= maxAttempts) {
+            status = OutboxStatus.FAILED;
+            deadLettered.increment();
+        } else {
+            retried.increment();
+        }
+        // retryBackoff * 2^(attempts - 1), 최대 retryBackoffMax
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(retryBackoffMax) > 0) {
+            backoff = retryBackoffMax;
+        }
+        String lastError = String.valueOf(error.getMessage());
+        if (lastError.length() > 500) {
+            lastError = lastError.substring(0, 500);
+        }
+        return new Object[]{status.name(), attempts, Timestamp.valueOf(now.plus(backoff)), lastError, message.getId()};
+    }
+
+    // 전달 완료 후 retention 이 지난 행 삭제 (샤드마다 CLEANUP_CHUNK_SIZE 행씩)
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval:PT10M}")
+    public void cleanUp() {
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        shardTemplate.forEachShard(() -> ChunkedDelete.deleteInChunks(jdbcTemplate, CLEANUP_SQL, CLEANUP_CHUNK_SIZE, threshold));
+    }
+
+    // FAILED 이벤트 전체를 다시 전달 대기로 변경 -> 재처리된 개수 반환
+    public int retryFailed() {
+        LocalDateTime now = LocalDateTime.now();
+        return shardTemplate.scatter(() -> outboxEventRepository.retryFailed(now)).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    public OutboxStatsResponse getStats() {
+        LatencyHistogram.Snapshot snapshot = lag.snapshot();
+        List<long[]> shardStats = shardTemplate.scatter(() -> new long[]{
+                outboxEventRepository.countByStatus(OutboxStatus.PENDING),
+                outboxEventRepository.countByStatus(OutboxStatus.FAILED),
+                outboxEventRepository.findOldestCreatedAt(OutboxStatus.PENDING)
+                        .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toMillis()))
+                        .orElse(0L)
+        });
+        return new OutboxStatsResponse(
+                shardStats.stream().mapToLong(stats -> stats[0]).sum(),
+                shardStats.stream().mapToLong(stats -> stats[1]).sum(),
+                shardStats.stream().mapToLong(stats -> stats[2]).max().orElse(0L),
+                dispatched.sum(),
+                retried.sum(),
+                deadLettered.sum(),
+                batches.sum(),
+                TimeUnit.MICROSECONDS.toMillis(snapshot.valueAtPercentile(50)),
+                TimeUnit.MICROSECONDS.toMillis(snapshot.valueAtPercentile(99)),
+                TimeUnit.MICROSECONDS.toMillis(snapshot.getMaxMicros())
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.outbox.entity.OutboxEvent;
+import org.example.expert.domain.outbox.event.DomainEvent;
+import org.example.expert.domain.outbox.event.OutboxEventListener;
+import org.example.expert.domain.outbox.repository.OutboxEventRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 도메인 이벤트를 아웃박스 테이블에 저장 (요청 경로에서는 INSERT 1번만 추가)
+// MANDATORY : 호출한 서비스의 트랜잭션에 반드시 참여 -> 변경이 롤백되면 이벤트도 함께 롤백
+// 받을 리스너가 없는 이벤트 종류는 저장하지 않음 -> 소비자가 생기기 전까지 쓰기 요청에 INSERT 비용 x
+@Component
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    // 리스너 -> 서비스 -> 발행자 순환 의존을 피하도록 처음 발행할 때 조회
+    private final ObjectProvider<OutboxEventListener> listeners;
+    // 이벤트 종류 -> 받을 리스너 존재 여부 (리스너 빈은 시작 후 바뀌지 않음)
+    private final Map<String, Boolean> consumed = new ConcurrentHashMap<>();
+
+    public OutboxEventPublisher(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            ObjectProvider<OutboxEventListener> listeners
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.listeners = listeners;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        if (!isConsumed(event.getEventType())) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트 직렬화 실패: " + event.getEventType(), e);
+        }
+        outboxEventRepository.save(new OutboxEvent(
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getEventType(),
+                payload,
+                LocalDateTime.now()
+        ));
+    }
+
+    boolean isConsumed(String eventType) {
+        return consumed.computeIfAbsent(eventType,
+                type -> listeners.stream().anyMatch(listener -> listener.supports(type)));
+    }
+}
@@ -2,12 +2,18 @@ package org.example.expert.domain.todo.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.Idempotent;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.MyTodosResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoListResponseCache;
+import org.example.expert.domain.todo.service.TodoListResponseCache.SerializedPage;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -19,7 +25,10 @@ import java.time.LocalDateTime;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoListResponseCache todoListResponseCache;
 
+    // Idempotency-Key 헤더로 재시도 시 중복 생성 방지
+    @Idempotent
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
             // [2-9] @Auth -> @AuthenticationPrincipal 로 변경
@@ -30,21 +39,68 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 1페이지 기본 size (필터 없음 / weather 하나) : 직렬화해 둔 바이트를 그대로 응답 (gzip 요청이면 미리 압축한 바이트)
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Object> getTodos(
             // [1-3] weather 검색 기능 추가
             @RequestParam(required = false) String weather,
             // [1-3] 수정일 기준 기간 검색 기능 추가
             @RequestParam(required = false) LocalDateTime startDate,
             @RequestParam(required = false) LocalDateTime endDate,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return ResponseEntity.ok(todoService.getTodos(weather, startDate, endDate, page, size));
+        String cacheKey = todoListResponseCache.keyOf(weather, startDate, endDate, page, size);
+        if (cacheKey == null) {
+            return ResponseEntity.ok(todoService.getTodos(weather, startDate, endDate, page, size));
+        }
+        SerializedPage cached = todoListResponseCache.get(cacheKey,
+                () -> todoService.getTodos(weather, startDate, endDate, page, size));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cached.getGzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.getGzip());
+        }
+        return response.body(cached.getJson());
     }
 
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    // 내가 작성했거나 담당자인 할 일 (수정일 최신순)
+    // 다음 페이지 : 응답의 nextCursor 를 cursor 로 전달
+    @GetMapping("/users/me/todos")
+    public ResponseEntity<MyTodosResponse> getMyTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getMyTodos(authUser, cursor, size));
+    }
+
+    // "gzip", "gzip;q=0.8", "*" 허용, "gzip;q=0" 은 거부
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        // gzip 을 직접 적은 항목이 * 보다 우선
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = parts.length < 2 || !parts[1].trim().matches("[qQ]=0(\\.0*)?");
+            if (name.equalsIgnoreCase("gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
 }
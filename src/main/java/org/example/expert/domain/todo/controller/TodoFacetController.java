@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoFacetResponse;
+import org.example.expert.domain.todo.service.TodoFacetService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoFacetController {
+
+    private final TodoFacetService todoFacetService;
+
+    // 월별 달력 + 날씨 분포
+    @GetMapping("/todos/facets")
+    public ResponseEntity<TodoFacetResponse> getFacets(
+            @RequestParam int year,
+            @RequestParam int month
+    ) {
+        return ResponseEntity.ok(todoFacetService.getMonthlyFacets(year, month));
+    }
+
+    // 요약 테이블 재계산 (관리자)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/admin/todos/facets/rebuild")
+    public ResponseEntity<TodoFacetResponse> rebuildFacets(
+            @RequestParam int year,
+            @RequestParam int month
+    ) {
+        return ResponseEntity.ok(todoFacetService.rebuildMonthlyFacets(year, month));
+    }
+}
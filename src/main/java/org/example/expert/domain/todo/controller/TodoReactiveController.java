@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoReactiveService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+// 반응형 읽기 API : 한 줄에 할 일 하나씩 (NDJSON)
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class TodoReactiveController {
+
+    private final TodoReactiveService todoReactiveService;
+
+    @GetMapping(value = "/reactive/todos", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TodoResponse> getTodos(
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return todoReactiveService.getTodos(weather, startDate, endDate, page, size);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.dto.projection;
+
+import java.time.LocalDateTime;
+
+// 할 일 목록용 : todos + 작성자(users) id, email 컬럼만 조회하는 인터페이스 프로젝션
+public interface TodoWithUserView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContents();
+
+    String getWeather();
+
+    Long getUserId();
+
+    String getUserEmail();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getModifiedAt();
+}
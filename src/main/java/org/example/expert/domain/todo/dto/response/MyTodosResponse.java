@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MyTodosResponse {
+
+    private final List<TodoResponse> todos;
+    // 다음 요청의 cursor 값 (마지막 페이지면 null)
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public MyTodosResponse(List<TodoResponse> todos, String nextCursor, boolean hasNext) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
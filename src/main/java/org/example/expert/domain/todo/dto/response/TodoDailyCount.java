@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// todos GROUP BY (날짜, 날씨) 결과 1행
+@Getter
+public class TodoDailyCount {
+
+    private final LocalDate statDate;
+    private final String weather;
+    private final long todoCount;
+
+    public TodoDailyCount(LocalDate statDate, String weather, long todoCount) {
+        this.statDate = statDate;
+        this.weather = weather;
+        this.todoCount = todoCount;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class TodoFacetResponse {
+
+    private final int year;
+    private final int month;
+    private final long total;
+    // 해당 월의 모든 날짜 (개수 0 포함)
+    private final List<DayCount> days;
+    // 개수 많은 순
+    private final List<WeatherCount> weathers;
+
+    public TodoFacetResponse(int year, int month, long total, List<DayCount> days, List<WeatherCount> weathers) {
+        this.year = year;
+        this.month = month;
+        this.total = total;
+        this.days = days;
+        this.weathers = weathers;
+    }
+
+    @Getter
+    public static class DayCount {
+
+        private final LocalDate date;
+        private final long count;
+
+        public DayCount(LocalDate date, long count) {
+            this.date = date;
+            this.count = count;
+        }
+    }
+
+    @Getter
+    public static class WeatherCount {
+
+        private final String weather;
+        private final long count;
+
+        public WeatherCount(String weather, long count) {
+            this.weather = weather;
+            this.count = count;
+        }
+    }
+}
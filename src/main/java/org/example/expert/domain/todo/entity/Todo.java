@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.change.entity.ChangeLogEntityListener;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Getter
 @Entity
+@EntityListeners(ChangeLogEntityListener.class)
 @NoArgsConstructor
 @Table(name = "todos")
 public class Todo extends Timestamped {
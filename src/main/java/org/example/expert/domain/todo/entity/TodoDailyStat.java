@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+// 일별/날씨별 할 일 개수 요약 (달력, 날씨 분포 조회용)
+// 값 증가는 TodoDailyStatRepository.increment (DB 에서 원자적으로 +1)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_daily_stats")
+@IdClass(TodoDailyStat.Key.class)
+public class TodoDailyStat {
+
+    // 날씨 정보가 없을 때 사용하는 값
+    public static final String UNKNOWN_WEATHER = "Unknown";
+
+    @Id
+    private LocalDate statDate;
+    @Id
+    private String weather;
+    private long todoCount;
+
+    public TodoDailyStat(LocalDate statDate, String weather, long todoCount) {
+        this.statDate = statDate;
+        this.weather = weather;
+        this.todoCount = todoCount;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private LocalDate statDate;
+        private String weather;
+
+        public Key(LocalDate statDate, String weather) {
+            this.statDate = statDate;
+            this.weather = weather;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(statDate, key.statDate) && Objects.equals(weather, key.weather);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(statDate, weather);
+        }
+    }
+}
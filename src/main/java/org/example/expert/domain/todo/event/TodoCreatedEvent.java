@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+import org.example.expert.domain.outbox.event.DomainEvent;
+
+// 할 일 생성 (아웃박스 이벤트)
+@Getter
+public class TodoCreatedEvent implements DomainEvent {
+
+    public static final String TYPE = "TODO_CREATED";
+
+    private final long todoId;
+    private final long userId;
+    private final String title;
+    private final String weather;
+
+    public TodoCreatedEvent(long todoId, long userId, String title, String weather) {
+        this.todoId = todoId;
+        this.userId = userId;
+        this.title = title;
+        this.weather = weather;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "Todo";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return todoId;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TodoDailyStatRepository extends JpaRepository<TodoDailyStat, TodoDailyStat.Key> {
+
+    // 조회 후 +1 하지 않고 DB 에서 한 번에 처리 -> 동시 저장에도 개수 누락 없음
+    @Modifying
+    @Query(value = "INSERT INTO todo_daily_stats (stat_date, weather, todo_count) VALUES (:statDate, :weather, 1) "
+            + "ON DUPLICATE KEY UPDATE todo_count = todo_count + 1", nativeQuery = true)
+    void increment(@Param("statDate") LocalDate statDate, @Param("weather") String weather);
+
+    List<TodoDailyStat> findByStatDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // 벌크 삭제 후 영속성 컨텍스트를 비워야 같은 키로 다시 저장 가능
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoDailyStat s WHERE s.statDate BETWEEN :startDate AND :endDate")
+    void deleteByStatDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -1,5 +1,7 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.projection.TodoWithUserView;
+import org.example.expert.domain.todo.dto.response.TodoDailyCount;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,9 +10,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
+    // GET /users/me/todos 공통 SELECT (네이티브 : FROM 절 UNION 서브쿼리)
+    String MY_TODOS_SELECT = "SELECT t.id AS id, t.title AS title, t.contents AS contents, t.weather AS weather, "
+            + "u.id AS userId, u.email AS userEmail, t.created_at AS createdAt, t.modified_at AS modifiedAt "
+            + "FROM (SELECT m.todo_id FROM managers m WHERE m.user_id = :userId "
+            + "UNION SELECT o.id FROM todos o WHERE o.user_id = :userId) mine "
+            + "JOIN todos t ON t.id = mine.todo_id "
+            + "JOIN users u ON u.id = t.user_id ";
+
     @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
@@ -29,4 +41,42 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable
     );
+
+    // 기간 내 할 일 개수를 (생성일, 날씨) 별로 집계 -> todo_daily_stats 재계산용
+    // idx_todos_created_at_weather 인덱스만 읽고 처리
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoDailyCount("
+            + "CAST(t.createdAt AS LocalDate), COALESCE(t.weather, 'Unknown'), COUNT(t)) "
+            + "FROM Todo t WHERE t.createdAt >= :start AND t.createdAt < :end "
+            + "GROUP BY CAST(t.createdAt AS LocalDate), COALESCE(t.weather, 'Unknown')")
+    List<TodoDailyCount> countByCreatedDateAndWeather(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // 변경 피드 : 바뀐 할 일만 한 번에 조회
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.id IN :ids")
+    List<Todo> findAllByIdInWithUser(@Param("ids") Set<Long> ids);
+
+    // 내가 작성했거나 담당자인 할 일 (GET /users/me/todos)
+    // - 담당자 : idx_managers_user_id_todo_id 에서 user_id = ? 범위만 읽음 (todo_id 까지 인덱스에 있어 테이블 접근 없음)
+    // - 작성자 : 작성자는 생성 시 담당자로 자동 등록되지만 스스로 담당자에서 빠질 수 있어 todos.user_id 로 한 번 더
+    // -> UNION 으로 중복 제거한 내 할 일 id 만 todos PK 로 조인 후 (수정일, id) 내림차순 정렬
+    // 비용 : UNION 파생 테이블은 매 요청 내 할 일 전체를 만들고 조인/정렬한 뒤 LIMIT -> 페이지마다 O(내 할 일 수)
+    //        (정렬 기준 modified_at 이 todos 에만 있어 담당자 쪽은 인덱스 순서로 멈출 수 없음)
+    @Query(value = MY_TODOS_SELECT
+            + "ORDER BY t.modified_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TodoWithUserView> findMyTodos(@Param("userId") long userId, @Param("limit") int limit);
+
+    // 키셋 페이지 : 직전 페이지 마지막 (수정일, id) 보다 뒤쪽만
+    // -> OFFSET 처럼 앞 페이지 행을 응답용으로 읽고 버리지는 않지만, 커서 조건은 UNION 뒤에 걸리므로
+    //    첫 페이지와 마찬가지로 내 할 일 전체를 읽고 정렬함 (깊이와 무관하게 O(내 할 일 수))
+    @Query(value = MY_TODOS_SELECT
+            + "WHERE t.modified_at < :modifiedAt OR (t.modified_at = :modifiedAt AND t.id < :id) "
+            + "ORDER BY t.modified_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TodoWithUserView> findMyTodosAfter(
+            @Param("userId") long userId,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") long id,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.archive.repository.TodoArchiveRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoDailyCount;
+import org.example.expert.domain.todo.dto.response.TodoFacetResponse;
+import org.example.expert.domain.todo.entity.TodoDailyStat;
+import org.example.expert.domain.todo.repository.TodoDailyStatRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 달력(일별) + 날씨별 할 일 개수
+// - 기본 : todo_daily_stats 요약 테이블에서 한 달치(최대 31일 x 날씨 종류) 행만 읽음
+// - todo.daily-stats.enabled=false : todos 를 GROUP BY 로 직접 집계
+// - 샤딩 모드 : 샤드별 결과를 합산 (요약 테이블도 샤드마다 있음)
+@Service
+public class TodoFacetService {
+
+    private final TodoRepository todoRepository;
+    private final TodoDailyStatRepository todoDailyStatRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean dailyStatsEnabled;
+
+    public TodoFacetService(
+            TodoRepository todoRepository,
+            TodoDailyStatRepository todoDailyStatRepository,
+            TodoArchiveRepository todoArchiveRepository,
+            ShardTemplate shardTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.daily-stats.enabled:true}") boolean dailyStatsEnabled
+    ) {
+        this.todoRepository = todoRepository;
+        this.todoDailyStatRepository = todoDailyStatRepository;
+        this.todoArchiveRepository = todoArchiveRepository;
+        this.shardTemplate = shardTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dailyStatsEnabled = dailyStatsEnabled;
+    }
+
+    @Transactional(readOnly = true)
+    public TodoFacetResponse getMonthlyFacets(int year, int month) {
+        YearMonth yearMonth = toYearMonth(year, month);
+
+        List<TodoDailyCount> counts = new ArrayList<>();
+        shardTemplate.scatter(() -> dailyStatsEnabled
+                ? todoDailyStatRepository.findByStatDateBetween(yearMonth.atDay(1), yearMonth.atEndOfMonth()).stream()
+                        .map(stat -> new TodoDailyCount(stat.getStatDate(), stat.getWeather(), stat.getTodoCount()))
+                        .toList()
+                : countFromTodos(yearMonth)).forEach(counts::addAll);
+
+        return toResponse(yearMonth, counts);
+    }
+
+    // 요약 테이블을 todos 기준으로 다시 계산 (누락/불일치 보정용), 샤드마다 한 트랜잭션
+    public TodoFacetResponse rebuildMonthlyFacets(int year, int month) {
+        YearMonth yearMonth = toYearMonth(year, month);
+
+        List<TodoDailyCount> counts = new ArrayList<>();
+        shardTemplate.forEachShard(() -> transactionTemplate.executeWithoutResult(status -> {
+            List<TodoDailyCount> shardCounts = countFromTodos(yearMonth);
+            todoDailyStatRepository.deleteByStatDateBetween(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+            todoDailyStatRepository.saveAll(shardCounts.stream()
+                    .map(count -> new TodoDailyStat(count.getStatDate(), count.getWeather(), count.getTodoCount()))
+                    .toList());
+            counts.addAll(shardCounts);
+        }));
+
+        return toResponse(yearMonth, counts);
+    }
+
+    // 보관된 할 일도 개수에 포함 (요약 테이블은 보관 시 줄어들지 않음)
+    private List<TodoDailyCount> countFromTodos(YearMonth yearMonth) {
+        LocalDateTime start = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime end = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        Map<TodoDailyStat.Key, Long> merged = new LinkedHashMap<>();
+        List<TodoDailyCount> counts = new ArrayList<>(todoRepository.countByCreatedDateAndWeather(start, end));
+        counts.addAll(todoArchiveRepository.countByCreatedDateAndWeather(start, end));
+        for (TodoDailyCount count : counts) {
+            merged.merge(new TodoDailyStat.Key(count.getStatDate(), count.getWeather()), count.getTodoCount(), Long::sum);
+        }
+        return merged.entrySet().stream()
+                .map(entry -> new TodoDailyCount(entry.getKey().getStatDate(), entry.getKey().getWeather(), entry.getValue()))
+                .toList();
+    }
+
+    private YearMonth toYearMonth(int year, int month) {
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new InvalidRequestException("잘못된 연/월입니다.");
+        }
+    }
+
+    private TodoFacetResponse toResponse(YearMonth yearMonth, List<TodoDailyCount> counts) {
+        // 해당 월의 모든 날짜를 0 으로 채운 뒤 개수 누적 -> O(일 수 + 행 수)
+        Map<LocalDate, Long> dayCounts = new LinkedHashMap<>();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            dayCounts.put(yearMonth.atDay(day), 0L);
+        }
+        Map<String, Long> weatherCounts = new LinkedHashMap<>();
+        long total = 0;
+        for (TodoDailyCount count : counts) {
+            dayCounts.merge(count.getStatDate(), count.getTodoCount(), Long::sum);
+            weatherCounts.merge(count.getWeather(), count.getTodoCount(), Long::sum);
+            total += count.getTodoCount();
+        }
+
+        List<TodoFacetResponse.DayCount> days = new ArrayList<>(dayCounts.size());
+        dayCounts.forEach((date, count) -> days.add(new TodoFacetResponse.DayCount(date, count)));
+
+        List<TodoFacetResponse.WeatherCount> weathers = weatherCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> new TodoFacetResponse.WeatherCount(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return new TodoFacetResponse(yearMonth.getYear(), yearMonth.getMonthValue(), total, days, weathers);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.example.expert.config.singleflight.SingleFlight;
+import org.example.expert.config.singleflight.SingleFlightRegistry;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// GET /todos 1페이지(기본 size) 응답을 JSON 직렬화가 끝난 바이트로 보관 (+ gzip 미리 압축)
+// - 키 : 정규화한 필터 (필터 없음 / weather 하나) -> 기간 검색, 2페이지 이후, 다른 size 는 캐시하지 않음
+// - 무효화 : 할 일 쓰기 버전 (saveTodo, 보관 작업이 커밋 후 +1) -> 저장된 버전이 현재 버전과 다르면 다시 조회
+// - 버전은 이 서버 안에서만 올라감 -> 다른 서버의 쓰기는 ttl 이내에 반영
+@Component
+public class TodoListResponseCache {
+
+    private static final String ALL_KEY = "all";
+    private static final String WEATHER_KEY_PREFIX = "weather:";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int pageSize;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+    private final Cache<String, SerializedPage> pages;
+    // 같은 키 동시 미스 -> 조회/직렬화 1번
+    private final SingleFlight<String, SerializedPage> pageLoads;
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    public TodoListResponseCache(
+            ObjectMapper objectMapper,
+            SingleFlightRegistry singleFlightRegistry,
+            @Value("${todo.list-cache.enabled:true}") boolean enabled,
+            @Value("${todo.list-cache.page-size:10}") int pageSize,
+            @Value("${todo.list-cache.max-entries:256}") long maxEntries,
+            @Value("${todo.list-cache.ttl:PT10S}") Duration ttl,
+            @Value("${todo.list-cache.gzip.enabled:true}") boolean gzipEnabled,
+            @Value("${todo.list-cache.gzip.min-bytes:1024}") int gzipMinBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+        this.pageLoads = singleFlightRegistry.get("todo-list");
+    }
+
+    // 캐시 대상이면 정규화한 키, 아니면 null
+    // TodoService.findTodos 와 같은 우선순위 : weather 가 있으면 기간은 무시, 기간은 둘 다 있어야 적용
+    public String keyOf(String weather, LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
+        if (!enabled || page != 1 || size != pageSize) {
+            return null;
+        }
+        if (weather != null && !weather.isEmpty()) {
+            return WEATHER_KEY_PREFIX + weather;
+        }
+        if (startDate != null && endDate != null) {
+            return null;
+        }
+        return ALL_KEY;
+    }
+
+    public SerializedPage get(String key, Supplier<PageResponse<TodoResponse>> loader) {
+        SerializedPage cached = pages.getIfPresent(key);
+        if (cached != null && cached.version == writeVersion.get()) {
+            return cached;
+        }
+        return pageLoads.execute(key, () -> load(key, loader));
+    }
+
+    private SerializedPage load(String key, Supplier<PageResponse<TodoResponse>> loader) {
+        // 조회 전에 읽은 버전으로 저장 -> 조회 중에 커밋된 쓰기가 있으면 다음 요청에서 다시 조회
+        long version = writeVersion.get();
+        byte[] json = serialize(loader.get());
+        byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+        SerializedPage page = new SerializedPage(version, json, gzip);
+        pages.put(key, page);
+        return page;
+    }
+
+    // 트랜잭션 안이면 커밋 후 +1
+    // -> 커밋 전에 올리면 다른 요청이 변경 전 목록을 새 버전으로 다시 캐시에 올릴 수 있음
+    public void bumpVersion() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writeVersion.incrementAndGet();
+                }
+            });
+            return;
+        }
+        writeVersion.incrementAndGet();
+    }
+
+    private byte[] serialize(PageResponse<TodoResponse> page) {
+        try {
+            return objectMapper.writeValueAsBytes(page);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("할 일 목록 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 여러 요청이 같은 배열을 그대로 응답에 씀 -> 변경 금지
+    @Getter
+    public static class SerializedPage {
+
+        private final long version;
+        private final byte[] json;
+        // gzip 비활성화 또는 min-bytes 미만이면 null
+        private final byte[] gzip;
+
+        private SerializedPage(long version, byte[] json, byte[] gzip) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+        }
+    }
+}
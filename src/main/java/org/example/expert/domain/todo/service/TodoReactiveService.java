@@ -0,0 +1,73 @@
+package org.example.expert.domain.todo.service;
+
+import io.r2dbc.spi.Readable;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+// GET /reactive/todos : TodoService.getTodos 와 같은 조건/정렬을 R2DBC 로 조회해 한 건씩 흘려보냄
+// 페이지 정보(totalElements 등)는 없음 -> 스트림 끝 = 페이지 끝
+@Service
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class TodoReactiveService {
+
+    private static final String SELECT_SQL = "SELECT t.id, t.title, t.contents, t.weather, t.created_at, t.modified_at, "
+            + "u.id AS user_id, u.email FROM todos t JOIN users u ON u.id = t.user_id ";
+    private static final String PAGE_SQL = "ORDER BY t.modified_at DESC, t.id DESC LIMIT :limit OFFSET :offset";
+
+    private final DatabaseClient reactiveDatabaseClient;
+    // 한 요청이 긴 스트림으로 커넥션을 오래 잡지 않도록
+    private final int maxPageSize;
+
+    public TodoReactiveService(
+            DatabaseClient reactiveDatabaseClient,
+            @Value("${reactive-read.max-page-size:100}") int maxPageSize
+    ) {
+        this.reactiveDatabaseClient = reactiveDatabaseClient;
+        this.maxPageSize = maxPageSize;
+    }
+
+    // 조건 우선순위는 TodoService.findTodos 와 같음 : weather -> 기간(둘 다 있을 때) -> 전체
+    public Flux<TodoResponse> getTodos(String weather, LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
+        if (page < 1) {
+            return Flux.error(new InvalidRequestException("page 는 1 이상이어야 합니다."));
+        }
+        if (size < 1 || size > maxPageSize) {
+            return Flux.error(new InvalidRequestException("size 는 1 ~ " + maxPageSize + " 사이여야 합니다."));
+        }
+        DatabaseClient.GenericExecuteSpec spec;
+        if (weather != null && !weather.isEmpty()) {
+            spec = reactiveDatabaseClient.sql(SELECT_SQL + "WHERE t.weather = :weather " + PAGE_SQL)
+                    .bind("weather", weather);
+        } else if (startDate != null && endDate != null) {
+            spec = reactiveDatabaseClient.sql(SELECT_SQL + "WHERE t.modified_at BETWEEN :startDate AND :endDate " + PAGE_SQL)
+                    .bind("startDate", startDate)
+                    .bind("endDate", endDate);
+        } else {
+            spec = reactiveDatabaseClient.sql(SELECT_SQL + PAGE_SQL);
+        }
+        return spec.bind("limit", size)
+                .bind("offset", (long) (page - 1) * size)
+                .map(TodoReactiveService::toResponse)
+                .all();
+    }
+
+    private static TodoResponse toResponse(Readable row) {
+        return new TodoResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("contents", String.class),
+                row.get("weather", String.class),
+                new UserResponse(row.get("user_id", Long.class), row.get("email", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("modified_at", LocalDateTime.class)
+        );
+    }
+}
@@ -1,39 +1,109 @@
 package org.example.expert.domain.todo.service;
 
-import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.config.sharding.KWayMerge;
+import org.example.expert.config.sharding.ShardKey;
+import org.example.expert.config.sharding.ShardRouted;
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.config.singleflight.SingleFlight;
+import org.example.expert.config.singleflight.SingleFlightRegistry;
+import org.example.expert.domain.archive.entity.TodoArchive;
+import org.example.expert.domain.archive.repository.TodoArchiveRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.projection.TodoWithUserView;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.MyTodosResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
+import org.example.expert.domain.outbox.service.OutboxEventPublisher;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoDailyStat;
 import org.example.expert.domain.todo.repository.GetTodoQueryDSLRepository;
+import org.example.expert.domain.todo.repository.TodoDailyStatRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 // [1-1] " readonly = true " 가 전체 메서드에 적용되면 안됨 (무분별 사용 금지)
 // -> 읽기 전용에만 사용!
 public class TodoService {
 
+    // 샤드별 목록 병합 기준 : 수정일 내림차순, 같으면 id 내림차순
+    private static final Comparator<TodoResponse> MODIFIED_AT_DESC = Comparator
+            .comparing(TodoResponse::getModifiedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TodoResponse::getId, Comparator.reverseOrder());
+    // 내 할 일 키셋 커서 : "<수정일>_<id>" (예 : 2024-05-01T10:15:30.123456_42)
+    private static final char CURSOR_SEPARATOR = '_';
+    private static final Sort SHARD_PAGE_SORT = Sort.by(Sort.Order.desc("modifiedAt"), Sort.Order.desc("id"));
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
     // [2-8] QueryDSL 적용 완료 -> QueryDSL 레포지토리 의존성 주입
     private final GetTodoQueryDSLRepository getTodoQueryDSLRepository;
+    private final TodoDailyStatRepository todoDailyStatRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final TodoListResponseCache todoListResponseCache;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    // 같은 할 일 동시 조회 -> DB 조회 1번
+    private final SingleFlight<Long, TodoResponse> todoLoads;
+    // 일별/날씨별 요약 테이블 갱신 여부 (false 면 GET /todos/facets 가 todos 를 직접 집계)
+    private final boolean dailyStatsEnabled;
+    private final int maxMyTodosPageSize;
+
+    public TodoService(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            GetTodoQueryDSLRepository getTodoQueryDSLRepository,
+            TodoDailyStatRepository todoDailyStatRepository,
+            OutboxEventPublisher outboxEventPublisher,
+            TodoArchiveRepository todoArchiveRepository,
+            TodoListResponseCache todoListResponseCache,
+            ShardTemplate shardTemplate,
+            PlatformTransactionManager transactionManager,
+            SingleFlightRegistry singleFlightRegistry,
+            @Value("${todo.daily-stats.enabled:true}") boolean dailyStatsEnabled,
+            @Value("${todo.my-todos.max-page-size:100}") int maxMyTodosPageSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.getTodoQueryDSLRepository = getTodoQueryDSLRepository;
+        this.todoDailyStatRepository = todoDailyStatRepository;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.todoArchiveRepository = todoArchiveRepository;
+        this.todoListResponseCache = todoListResponseCache;
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.todoLoads = singleFlightRegistry.get("todo");
+        this.dailyStatsEnabled = dailyStatsEnabled;
+        this.maxMyTodosPageSize = maxMyTodosPageSize;
+    }
 
-    // todo 생성
-    public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+    // todo 생성 (샤딩 모드 : 작성자의 샤드에 저장)
+    @ShardRouted
+    public TodoSaveResponse saveTodo(@ShardKey(ShardKey.Type.USER) AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
         String weather = weatherClient.getTodayWeather();
@@ -46,6 +116,18 @@ public class TodoService {
         );
         Todo savedTodo = todoRepository.save(newTodo);
 
+        // 같은 트랜잭션에서 요약 테이블 +1 -> 저장 실패 시 함께 롤백
+        if (dailyStatsEnabled) {
+            todoDailyStatRepository.increment(
+                    savedTodo.getCreatedAt().toLocalDate(),
+                    weather != null ? weather : TodoDailyStat.UNKNOWN_WEATHER
+            );
+        }
+        // 알림, 검색 색인 등은 아웃박스를 통해 비동기로 처리
+        outboxEventPublisher.publish(new TodoCreatedEvent(savedTodo.getId(), user.getId(), savedTodo.getTitle(), weather));
+        // 커밋 후 목록 1페이지 캐시 무효화
+        todoListResponseCache.bumpVersion();
+
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
@@ -59,31 +141,62 @@ public class TodoService {
     // [1-3] weather 검색 기능 추가 (if 문 추가)
     // [1-3] 수정일 기준 기간 검색 기능 추가 (else if 추가)
     @Transactional(readOnly = true)
-    public Page<TodoResponse> getTodos(
+    public PageResponse<TodoResponse> getTodos(
             String weather,
             LocalDateTime startDate,
             LocalDateTime endDate,
             int page,
             int size
     ) {
+        if (shardTemplate.isSharded()) {
+            return getTodosFromShards(weather, startDate, endDate, page, size);
+        }
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos;
+        return PageResponse.from(findTodos(weather, startDate, endDate, pageable).map(this::toResponse));
+    }
+
+    // 샤딩 모드 : 샤드마다 앞에서부터 page * size 개를 동시에 읽고 k-way 병합 후 해당 페이지만 잘라냄
+    // -> 뒤쪽 페이지일수록 샤드당 읽는 행이 늘어남 (깊은 페이지는 키셋 방식 권장)
+    private PageResponse<TodoResponse> getTodosFromShards(
+            String weather,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int page,
+            int size
+    ) {
+        Pageable shardPageable = PageRequest.of(0, Math.multiplyExact(page, size), SHARD_PAGE_SORT);
+
+        List<Page<TodoResponse>> shardPages = shardTemplate.scatter(() -> readOnlyTransaction.execute(status ->
+                findTodos(weather, startDate, endDate, shardPageable).map(this::toResponse)));
 
+        long totalElements = shardPages.stream().mapToLong(Page::getTotalElements).sum();
+        List<TodoResponse> content = KWayMerge.merge(
+                shardPages.stream().map(Page::getContent).toList(),
+                MODIFIED_AT_DESC,
+                (page - 1) * size,
+                size
+        );
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        return new PageResponse<>(content, page, size, totalElements, totalPages, page < totalPages);
+    }
+
+    private Page<Todo> findTodos(String weather, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         // URL 쿼리 파라미터 검증 //
         // 1. URL 에서 weather 검색 시
         if (weather != null && !weather.isEmpty()) {
-            todos = todoRepository.findByWeather(weather, pageable);
+            return todoRepository.findByWeather(weather, pageable);
         // 2. URL 에서 기간 검색 시 (startDate ~ endDate)
         } else if (startDate != null && endDate != null) {
-            todos = todoRepository.findByModifiedAt(startDate, endDate, pageable);
+            return todoRepository.findByModifiedAt(startDate, endDate, pageable);
+        }
         // 3. 전체 조회
         //    즉, 날씨 조건도 기간 조건도 작성하지 않았을 경우!
-        } else {
-            todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-        }
+        return todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
+    private TodoResponse toResponse(Todo todo) {
+        return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
@@ -91,17 +204,87 @@ public class TodoService {
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
-        ));
+        );
+    }
+
+    // 내가 작성했거나 담당자인 할 일 (수정일 최신순, 키셋 페이지)
+    // 샤딩 모드 : 담당자 행은 할 일의 샤드에 있음 -> 모든 샤드에서 size + 1 개씩 읽고 k-way 병합
+    // (샤드마다 같은 커서 조건이라 깊은 페이지도 샤드당 size + 1 개만 반환, 샤드 안에서는 내 할 일 전체를 정렬 -> TodoRepository.findMyTodos)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MyTodosResponse getMyTodos(AuthUser authUser, String cursor, int size) {
+        if (size < 1 || size > maxMyTodosPageSize) {
+            throw new InvalidRequestException("size 는 1 ~ " + maxMyTodosPageSize + " 사이여야 합니다.");
+        }
+        MyTodosCursor after = parseCursor(cursor);
+        long userId = authUser.getId();
+
+        List<List<TodoResponse>> shardTodos = shardTemplate.scatter(() -> readOnlyTransaction.execute(status ->
+                findMyTodos(userId, after, size + 1)));
+
+        List<TodoResponse> todos = KWayMerge.merge(shardTodos, MODIFIED_AT_DESC, 0, size + 1);
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+        String nextCursor = hasNext ? toCursor(todos.get(size - 1)) : null;
+        return new MyTodosResponse(todos, nextCursor, hasNext);
+    }
+
+    private List<TodoResponse> findMyTodos(long userId, MyTodosCursor after, int limit) {
+        List<TodoWithUserView> rows = after == null
+                ? todoRepository.findMyTodos(userId, limit)
+                : todoRepository.findMyTodosAfter(userId, after.modifiedAt(), after.id(), limit);
+        return rows.stream()
+                .map(row -> new TodoResponse(
+                        row.getId(),
+                        row.getTitle(),
+                        row.getContents(),
+                        row.getWeather(),
+                        new UserResponse(row.getUserId(), row.getUserEmail()),
+                        row.getCreatedAt(),
+                        row.getModifiedAt()
+                ))
+                .toList();
+    }
+
+    private static String toCursor(TodoResponse last) {
+        return last.getModifiedAt().toString() + CURSOR_SEPARATOR + last.getId();
+    }
+
+    private static MyTodosCursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+        try {
+            LocalDateTime modifiedAt = LocalDateTime.parse(cursor.substring(0, separator));
+            long id = Long.parseLong(cursor.substring(separator + 1));
+            return new MyTodosCursor(modifiedAt, id);
+        } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+    }
+
+    private record MyTodosCursor(LocalDateTime modifiedAt, long id) {
     }
 
     // [2-8] QueryDSL 적용 완료
     // 기존 TodoRepository(JPQL)가 아닌 getTodoQueryDSLRepository(QueryDSL) 사용
     // 특정 todo 조회
-    @Transactional(readOnly = true)
-    public TodoResponse getTodo(long todoId) {
+    // 같은 todoId 동시 요청은 먼저 온 요청의 조회 결과를 함께 받음
+    // -> NOT_SUPPORTED 로 클래스 레벨 트랜잭션을 시작하지 않고, 실제로 조회하는 요청(single-flight 로더)만 읽기 전용 트랜잭션(커넥션) 사용
+    @ShardRouted
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoResponse getTodo(@ShardKey(ShardKey.Type.TODO) long todoId) {
+        return todoLoads.execute(todoId, () -> readOnlyTransaction.execute(status -> loadTodo(todoId)));
+    }
 
-        Todo todo = getTodoQueryDSLRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    private TodoResponse loadTodo(long todoId) {
+        Todo todo = getTodoQueryDSLRepository.findByIdWithUser(todoId).orElse(null);
+        // 보관(archive)된 오래된 할 일이면 보관 테이블에서 조회
+        if (todo == null) {
+            return getArchivedTodo(todoId);
+        }
 
         User user = todo.getUser();
 
@@ -115,4 +298,21 @@ public class TodoService {
                 todo.getModifiedAt()
         );
     }
+
+    private TodoResponse getArchivedTodo(long todoId) {
+        TodoArchive archived = todoArchiveRepository.findByIdWithUser(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        User user = archived.getUser();
+
+        return new TodoResponse(
+                archived.getId(),
+                archived.getTitle(),
+                archived.getContents(),
+                archived.getWeather(),
+                new UserResponse(user.getId(), user.getEmail()),
+                archived.getCreatedAt(),
+                archived.getModifiedAt()
+        );
+    }
 }
@@ -2,7 +2,12 @@ package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.request.UserRolesChangeRequest;
+import org.example.expert.domain.user.dto.response.UserProfileCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserRolesChangeResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -18,4 +23,15 @@ public class UserAdminController {
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // 여러 유저 권한 일괄 변경 (유저마다 감사 로그 1건)
+    @PatchMapping("/admin/users/roles")
+    public ResponseEntity<UserRolesChangeResponse> changeUserRoles(@RequestBody UserRolesChangeRequest userRolesChangeRequest) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(userRolesChangeRequest));
+    }
+
+    @GetMapping("/admin/users/profile-cache")
+    public ResponseEntity<UserProfileCacheStatsResponse> getUserProfileCacheStats() {
+        return ResponseEntity.ok(userAdminService.getUserProfileCacheStats());
+    }
 }
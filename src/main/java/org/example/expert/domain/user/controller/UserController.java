@@ -4,11 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
 import org.example.expert.domain.user.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class UserController {
@@ -20,6 +23,15 @@ public class UserController {
         return ResponseEntity.ok(userService.getUser(userId));
     }
 
+    // 닉네임/이메일 접두사 + 부분 문자열 검색 (담당자 지정 자동완성)
+    @GetMapping("/users/search")
+    public ResponseEntity<List<UserSearchResponse>> searchUsers(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(userService.searchUsers(query, size));
+    }
+
     @PutMapping("/users")
     // [2-9] @Auth -> @AuthenticationPrincipal 로 변경
     // => Spring Security 에서 @AuthenticationPrincipal 제공되기 때문
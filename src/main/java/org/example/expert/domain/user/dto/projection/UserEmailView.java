@@ -0,0 +1,9 @@
+package org.example.expert.domain.user.dto.projection;
+
+// users 테이블에서 id, email 컬럼만 조회하는 인터페이스 프로젝션
+public interface UserEmailView {
+
+    Long getId();
+
+    String getEmail();
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.user.dto.projection;
+
+// 검색 인덱스 적재용 : users 테이블에서 id, email, nickname 컬럼만 조회하는 인터페이스 프로젝션
+public interface UserSearchView {
+
+    Long getId();
+
+    String getEmail();
+
+    String getNickname();
+}
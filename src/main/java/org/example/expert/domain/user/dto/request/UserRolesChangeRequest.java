@@ -0,0 +1,16 @@
+package org.example.expert.domain.user.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRolesChangeRequest {
+
+    private List<Long> userIds;
+    private String role;
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserProfileCacheStatsResponse {
+
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRatio;
+    private final long evictionCount;
+    private final long size;
+
+    public UserProfileCacheStatsResponse(long hitCount, long missCount, double hitRatio, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRatio = hitRatio;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserRolesChangeResponse {
+
+    private final String role;
+    private final List<Long> changedUserIds;
+    private final List<Long> notFoundUserIds;
+
+    public UserRolesChangeResponse(String role, List<Long> changedUserIds, List<Long> notFoundUserIds) {
+        this.role = role;
+        this.changedUserIds = changedUserIds;
+        this.notFoundUserIds = notFoundUserIds;
+    }
+}
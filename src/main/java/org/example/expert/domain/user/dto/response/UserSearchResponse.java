@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserSearchResponse {
+
+    private final Long id;
+    private final String email;
+    private final String nickname;
+
+    public UserSearchResponse(Long id, String email, String nickname) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname;
+    }
+}
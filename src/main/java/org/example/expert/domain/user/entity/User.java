@@ -13,6 +13,7 @@ import org.springframework.security.core.GrantedAuthority;
 @Entity
 @NoArgsConstructor
 @Table(name = "users")
+@EntityListeners(UserReplicationListener.class)
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
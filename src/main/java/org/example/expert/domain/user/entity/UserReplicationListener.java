@@ -0,0 +1,43 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.config.sharding.UserReferenceReplicator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// 샤딩 모드에서 User 저장/수정이 커밋되면 각 샤드의 users 참조 복사본 갱신
+// 샤딩 off 면 UserReferenceReplicator 빈이 없으므로 아무것도 하지 않음
+// 스프링 빈으로 생성됨 (Hibernate SpringBeanContainer)
+public class UserReplicationListener {
+
+    private final ObjectProvider<UserReferenceReplicator> replicator;
+
+    public UserReplicationListener(ObjectProvider<UserReferenceReplicator> replicator) {
+        this.replicator = replicator;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(User user) {
+        UserReferenceReplicator target = replicator.getIfAvailable();
+        if (target == null) {
+            return;
+        }
+        List<Long> userIds = List.of(user.getId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            target.replicate(userIds);
+            return;
+        }
+        // 롤백된 변경이 샤드에 남지 않도록 커밋 이후에 복사 (글로벌에서 최신 행을 다시 읽음)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                target.replicate(userIds);
+            }
+        });
+    }
+}
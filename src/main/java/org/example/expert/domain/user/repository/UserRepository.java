@@ -1,11 +1,43 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.projection.UserEmailView;
+import org.example.expert.domain.user.dto.projection.UserSearchView;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
+import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 이메일 Bloom filter 적재용 : id 기준 keyset 페이징 (id, email 만 조회)
+    List<UserEmailView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // 닉네임/이메일 검색 인덱스 적재용 : id 기준 keyset 페이징 (id, email, nickname 만 조회)
+    List<UserSearchView> findSearchViewsByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // 프로필 조회용 DTO 프로젝션 : 비밀번호 해시 등 불필요한 컬럼 제외하고 id, email 만 조회
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) FROM User u WHERE u.id = :userId")
+    Optional<UserResponse> findProfileById(@Param("userId") Long userId);
+
+    // 일괄 권한 변경 대상 중 실제 존재하는 id (감사 이벤트 대상)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds ORDER BY u.id")
+    List<Long> findIdsByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 일괄 권한 변경 : 엔티티 로딩/변경 감지 없이 UPDATE 한 번
+    // -> @LastModifiedDate, 엔티티 리스너(샤드 복사)가 동작하지 않으므로 호출하는 쪽에서 처리
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.userRole = :role, u.modifiedAt = :modifiedAt WHERE u.id IN :userIds")
+    int updateRoleByIdIn(@Param("role") UserRole role, @Param("modifiedAt") LocalDateTime modifiedAt,
+                         @Param("userIds") Collection<Long> userIds);
 }
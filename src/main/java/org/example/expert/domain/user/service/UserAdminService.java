@@ -1,26 +1,120 @@
 package org.example.expert.domain.user.service;
 
-import lombok.RequiredArgsConstructor;
+import org.example.expert.config.sharding.UserReferenceReplicator;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.request.UserRolesChangeRequest;
+import org.example.expert.domain.user.dto.response.UserProfileCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserRolesChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
 // 관리자만 유저 권한 수정 가능!
 @PreAuthorize("hasRole('ROLE_ADMIN')")
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final ObjectProvider<UserReferenceReplicator> userReferenceReplicator;
+    private final int bulkChunkSize;
+    private final int bulkMaxUsers;
+
+    public UserAdminService(
+            UserRepository userRepository,
+            UserProfileCache userProfileCache,
+            ObjectProvider<UserReferenceReplicator> userReferenceReplicator,
+            @Value("${user.bulk-role-change.chunk-size:500}") int bulkChunkSize,
+            @Value("${user.bulk-role-change.max-users:1000}") int bulkMaxUsers
+    ) {
+        this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.userReferenceReplicator = userReferenceReplicator;
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkMaxUsers = bulkMaxUsers;
+    }
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        userProfileCache.evict(userId);
+    }
+
+    // 여러 유저 권한 일괄 변경 : chunk-size 개씩 존재하는 id 확인 후 UPDATE 한 번 (전체가 한 트랜잭션)
+    // 없는 id 는 실패로 보지 않고 notFoundUserIds 로 돌려줌
+    @Transactional
+    public UserRolesChangeResponse changeUserRoles(UserRolesChangeRequest userRolesChangeRequest) {
+        UserRole role = UserRole.of(userRolesChangeRequest.getRole());
+        Set<Long> userIds = distinctUserIds(userRolesChangeRequest.getUserIds());
+
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        List<Long> requested = List.copyOf(userIds);
+        List<Long> changed = new ArrayList<>(requested.size());
+        for (int from = 0; from < requested.size(); from += bulkChunkSize) {
+            List<Long> chunk = requested.subList(from, Math.min(from + bulkChunkSize, requested.size()));
+            List<Long> existing = userRepository.findIdsByIdIn(chunk);
+            if (!existing.isEmpty()) {
+                userRepository.updateRoleByIdIn(role, modifiedAt, existing);
+                changed.addAll(existing);
+            }
+        }
+
+        userProfileCache.evictAll(changed);
+        replicateAfterCommit(changed);
+
+        Set<Long> changedSet = new HashSet<>(changed);
+        List<Long> notFound = requested.stream().filter(userId -> !changedSet.contains(userId)).toList();
+        return new UserRolesChangeResponse(role.name(), changed, notFound);
+    }
+
+    // 프로필 캐시 적중률 확인용
+    public UserProfileCacheStatsResponse getUserProfileCacheStats() {
+        return userProfileCache.getStats();
+    }
+
+    private Set<Long> distinctUserIds(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new InvalidRequestException("권한을 변경할 유저 id 를 입력해주세요.");
+        }
+        Set<Long> distinct = new LinkedHashSet<>();
+        userIds.stream().filter(Objects::nonNull).forEach(distinct::add);
+        if (distinct.isEmpty()) {
+            throw new InvalidRequestException("권한을 변경할 유저 id 를 입력해주세요.");
+        }
+        if (distinct.size() > bulkMaxUsers) {
+            throw new InvalidRequestException("한 번에 최대 " + bulkMaxUsers + "명까지 변경할 수 있습니다.");
+        }
+        return distinct;
+    }
+
+    // 벌크 UPDATE 는 UserReplicationListener 를 거치지 않음 -> 샤딩 모드면 커밋 후 직접 샤드 복사본 갱신
+    private void replicateAfterCommit(List<Long> userIds) {
+        UserReferenceReplicator replicator = userReferenceReplicator.getIfAvailable();
+        if (replicator == null || userIds.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replicator.replicate(userIds);
+            }
+        });
     }
 }
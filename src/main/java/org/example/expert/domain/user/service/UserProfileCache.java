@@ -0,0 +1,81 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.expert.domain.user.dto.response.UserProfileCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+// GET /users/{userId} 프로필 캐시 (크기 제한 있는 프로세스 내 캐시)
+// 유저 정보가 바뀌는 곳(비밀번호, 권한, 이메일 변경 등)에서 evict 호출 필수
+@Component
+public class UserProfileCache {
+
+    private final Cache<Long, UserResponse> cache;
+
+    public UserProfileCache(
+            @Value("${user.profile-cache.max-size:10000}") long maxSize,
+            @Value("${user.profile-cache.expire-after-write:PT10M}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    // loader 가 null 반환하면(유저 없음) 캐시에 저장하지 않음
+    public UserResponse get(long userId, Function<Long, UserResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    // 트랜잭션 안이면 커밋 후 제거
+    // -> 커밋 전에 지우면 다른 요청이 변경 전 값을 다시 캐시에 올릴 수 있음
+    public void evict(long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+            return;
+        }
+        cache.invalidate(userId);
+    }
+
+    // 일괄 변경용 : 커밋 후 콜백 하나로 여러 건 제거
+    public void evictAll(Collection<Long> userIds) {
+        List<Long> keys = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+            return;
+        }
+        cache.invalidateAll(keys);
+    }
+
+    public UserProfileCacheStatsResponse getStats() {
+        CacheStats stats = cache.stats();
+        return new UserProfileCacheStatsResponse(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                cache.estimatedSize()
+        );
+    }
+}
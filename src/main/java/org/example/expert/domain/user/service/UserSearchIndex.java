@@ -0,0 +1,378 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.projection.UserSearchView;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 닉네임/이메일 자동완성 검색 인덱스 (담당자 지정 화면, GET /users/search)
+// - LIKE '%x%' 는 users 전체를 읽으므로 메모리 인덱스로 대체
+// - 접두사 : 압축 트라이(radix tree, 자식은 첫 글자 순 정렬) -> 접두사 노드부터 전위 순회하면 사전순, limit 개에서 멈춤
+// - 부분 문자열(3글자 이상) : trigram -> 유저 번호 목록(증가 순) 중 가장 짧은 목록 기준 교집합 후 실제 포함 여부 확인
+// - 결과 순서 : 접두사 일치(사전순) -> 부분 문자열 일치(가입 순), 대소문자 구분 없음
+// - 기동 후 users 전체를 id keyset 페이징으로 적재, 가입 시 커밋 후 추가 (닉네임/이메일 변경, 탈퇴 기능 없음)
+// - 읽기/쓰기 : ReentrantReadWriteLock (synchronized 대신 -> 가상 스레드 고정 방지)
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final char[] NO_KEYS = new char[0];
+    private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+    private static final int[] NO_DOCS = new int[0];
+
+    private final UserRepository userRepository;
+    private final int maxResults;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 색인 번호(doc) = 적재/가입 순서 -> trigram 목록이 항상 증가 순
+    private final TrieNode root = new TrieNode("");
+    private final Map<Long, IntList> trigrams = new HashMap<>();
+    private final Map<Long, Integer> docByUserId = new HashMap<>();
+    private long[] userIds = new long[1024];
+    private String[] emails = new String[1024];
+    private String[] nicknames = new String[1024];
+    private int docCount;
+
+    public UserSearchIndex(
+            UserRepository userRepository,
+            @Value("${user.search.max-results:20}") int maxResults
+    ) {
+        this.userRepository = userRepository;
+        this.maxResults = maxResults;
+    }
+
+    // 적재 중에도 검색 가능 (그때까지 적재된 유저만 결과에 나옴)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<UserSearchView> batch;
+        do {
+            batch = userRepository.findSearchViewsByIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (UserSearchView user : batch) {
+                    index(user.getId(), user.getEmail(), user.getNickname());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        log.info("User search index loaded: {} users, {} trigrams", size(), trigramCount());
+    }
+
+    // 트랜잭션 안이면 커밋 후 추가 -> 롤백된 가입이 검색되지 않도록
+    public void add(long userId, String email, String nickname) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(userId, email, nickname);
+                }
+            });
+            return;
+        }
+        addNow(userId, email, nickname);
+    }
+
+    public List<UserSearchResponse> search(String query, int limit) {
+        String normalized = normalize(query);
+        int size = Math.max(1, Math.min(limit, maxResults));
+        lock.readLock().lock();
+        try {
+            Set<Integer> docs = new LinkedHashSet<>();
+            collectPrefixMatches(normalized, size, docs);
+            if (docs.size() < size && normalized.length() >= 3) {
+                collectSubstringMatches(normalized, size, docs);
+            }
+            List<UserSearchResponse> responses = new ArrayList<>(docs.size());
+            for (int doc : docs) {
+                responses.add(new UserSearchResponse(userIds[doc], emails[doc], nicknames[doc]));
+            }
+            return responses;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return trigrams.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addNow(long userId, String email, String nickname) {
+        lock.writeLock().lock();
+        try {
+            index(userId, email, nickname);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출, 적재와 가입이 겹쳐 같은 유저가 두 번 들어와도 한 번만 색인
+    private void index(long userId, String email, String nickname) {
+        if (docByUserId.containsKey(userId)) {
+            return;
+        }
+        if (docCount == userIds.length) {
+            int capacity = userIds.length * 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            nicknames = Arrays.copyOf(nicknames, capacity);
+        }
+        int doc = docCount++;
+        userIds[doc] = userId;
+        emails[doc] = email;
+        nicknames[doc] = nickname;
+        docByUserId.put(userId, doc);
+
+        for (String term : new String[]{nickname, email}) {
+            if (term == null || term.isEmpty()) {
+                continue;
+            }
+            String normalized = normalize(term);
+            insertTerm(normalized, doc);
+            for (int i = 0; i + 3 <= normalized.length(); i++) {
+                trigrams.computeIfAbsent(trigram(normalized, i), key -> new IntList()).add(doc);
+            }
+        }
+    }
+
+    private void insertTerm(String term, int doc) {
+        TrieNode node = root;
+        int offset = 0;
+        while (offset < term.length()) {
+            int index = node.indexOf(term.charAt(offset));
+            if (index < 0) {
+                TrieNode leaf = new TrieNode(term.substring(offset));
+                leaf.addDoc(doc);
+                node.insertChild(leaf);
+                return;
+            }
+            TrieNode child = node.children[index];
+            int common = commonPrefixLength(child.label, term, offset);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라짐 -> 공통 부분을 새 노드로 분리
+                TrieNode middle = new TrieNode(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.insertChild(child);
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            offset += common;
+        }
+        node.addDoc(doc);
+    }
+
+    // 접두사 노드 아래 전위 순회 (자기 자신 -> 자식 첫 글자 순) = 사전순
+    private void collectPrefixMatches(String prefix, int limit, Set<Integer> docs) {
+        TrieNode start = findPrefixNode(prefix);
+        if (start == null) {
+            return;
+        }
+        Deque<TrieNode> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            TrieNode node = stack.pop();
+            for (int doc : node.docs) {
+                docs.add(doc);
+                if (docs.size() == limit) {
+                    return;
+                }
+            }
+            for (int i = node.children.length - 1; i >= 0; i--) {
+                stack.push(node.children[i]);
+            }
+        }
+    }
+
+    private TrieNode findPrefixNode(String prefix) {
+        TrieNode node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            int index = node.indexOf(prefix.charAt(offset));
+            if (index < 0) {
+                return null;
+            }
+            TrieNode child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, offset);
+            // 검색어가 간선 중간에서 끝남 -> 그 자식 아래 전체가 일치
+            if (offset + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            offset += common;
+        }
+        return node;
+    }
+
+    // trigram 이 모두 들어 있어도 연속으로 있다는 보장은 없음 -> 후보마다 실제 포함 여부 확인
+    private void collectSubstringMatches(String query, int limit, Set<Integer> docs) {
+        List<IntList> postings = new ArrayList<>();
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            IntList posting = trigrams.get(trigram(query, i));
+            if (posting == null) {
+                return;
+            }
+            postings.add(posting);
+        }
+        postings.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        IntList shortest = postings.get(0);
+        for (int i = 0; i < shortest.size; i++) {
+            int doc = shortest.values[i];
+            if (docs.contains(doc) || !containsInAll(postings, doc)) {
+                continue;
+            }
+            if (containsIgnoreCase(nicknames[doc], query) || containsIgnoreCase(emails[doc], query)) {
+                docs.add(doc);
+                if (docs.size() == limit) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<IntList> postings, int doc) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(doc)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // toLowerCase 로 새 문자열을 만들지 않고 비교
+    private static boolean containsIgnoreCase(String value, String lowerQuery) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i + lowerQuery.length() <= value.length(); i++) {
+            if (value.regionMatches(true, i, lowerQuery, 0, lowerQuery.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int commonPrefixLength(String label, String term, int offset) {
+        int max = Math.min(label.length(), term.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == term.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    // 글자 3개(각 16비트)를 long 하나로
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class TrieNode {
+
+        private String label;
+        private char[] keys = NO_KEYS;
+        private TrieNode[] children = NO_CHILDREN;
+        // 이 노드에서 끝나는 단어의 색인 번호
+        private int[] docs = NO_DOCS;
+
+        private TrieNode(String label) {
+            this.label = label;
+        }
+
+        private int indexOf(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? index : -1;
+        }
+
+        private void insertChild(TrieNode child) {
+            char key = child.label.charAt(0);
+            int position = -Arrays.binarySearch(keys, key) - 1;
+            char[] newKeys = new char[keys.length + 1];
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newKeys[position] = key;
+            newChildren[position] = child;
+            System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        // 닉네임과 이메일이 같은 유저는 한 번만
+        private void addDoc(int doc) {
+            if (docs.length > 0 && docs[docs.length - 1] == doc) {
+                return;
+            }
+            docs = Arrays.copyOf(docs, docs.length + 1);
+            docs[docs.length - 1] = doc;
+        }
+    }
+
+    // 증가 순 int 목록 (박싱 없는 trigram 목록)
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
@@ -6,22 +6,49 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_QUERY_LENGTH = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserProfileCache userProfileCache;
+    private final UserSearchIndex userSearchIndex;
 
+    // 프로필 캐시 조회 -> 캐시 적중 시 트랜잭션(커넥션)도 열지 않도록 NOT_SUPPORTED
+    // 캐시 미스일 때만 id, email 프로젝션 쿼리 실행 (User 엔티티 전체 로딩 x)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail());
+        UserResponse userResponse = userProfileCache.get(userId,
+                id -> userRepository.findProfileById(id).orElse(null));
+        if (userResponse == null) {
+            throw new InvalidRequestException("User not found");
+        }
+        return userResponse;
+    }
+
+    // 담당자 지정 자동완성 : 메모리 인덱스만 조회 (DB x)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserSearchResponse> searchUsers(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidRequestException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요.");
+        }
+        return userSearchIndex.search(query, size);
     }
 
     @Transactional
@@ -40,6 +67,7 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        userProfileCache.evict(userId);
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
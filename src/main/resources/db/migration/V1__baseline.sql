@@ -0,0 +1,50 @@
+-- Flyway 도입 전 ddl-auto 로 만들어지던 스키마 그대로 (Hibernate MySQL DDL 기준)
+-- 이미 운영 중인 DB 는 baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용
+-- -> 운영 DB 에 실제로 있는 테이블(users, todos, comments, managers)만 두고, 이후 추가한 테이블은 V2 부터
+
+create table users (
+    id          bigint not null auto_increment,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    email       varchar(255),
+    nickname    varchar(255),
+    password    varchar(255),
+    user_role   enum ('ROLE_ADMIN','ROLE_USER'),
+    primary key (id)
+) engine=InnoDB;
+
+create table todos (
+    id          bigint not null auto_increment,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    user_id     bigint not null,
+    contents    varchar(255),
+    title       varchar(255),
+    weather     varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table comments (
+    id          bigint not null auto_increment,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    todo_id     bigint not null,
+    user_id     bigint not null,
+    contents    varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table managers (
+    id      bigint not null auto_increment,
+    todo_id bigint not null,
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table comments add constraint FKhq2jvyd0htxaj4avgceuigt4c foreign key (todo_id) references todos (id);
+alter table comments add constraint FK8omq0tc18jd43bu5tjh6jvraq foreign key (user_id) references users (id);
+alter table managers add constraint FKhniowui3ft3l9sdaijwv18id foreign key (todo_id) references todos (id);
+alter table managers add constraint FKsp1db43yf1nqhswrpbwmlnhb9 foreign key (user_id) references users (id);
+alter table todos add constraint FK9605g76a1dggbvs18f2r80gvu foreign key (user_id) references users (id);
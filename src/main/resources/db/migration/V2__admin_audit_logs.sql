@@ -0,0 +1,16 @@
+-- 관리자 API 감사 로그 (AdminAuditService, GET /admin/audit-logs)
+-- baseline(V1) 이후 추가된 테이블 -> 기존 운영 DB 에도 이 스크립트로 생성
+create table admin_audit_logs (
+    id             bigint not null auto_increment,
+    admin_user_id  bigint not null,
+    admin_email    varchar(255),
+    action         varchar(255) not null,
+    request_method varchar(255),
+    request_uri    varchar(255),
+    target_id      bigint,
+    detail         varchar(255),
+    occurred_at    datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_admin_audit_logs_admin_user_id on admin_audit_logs (admin_user_id, id);
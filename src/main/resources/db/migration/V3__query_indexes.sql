@@ -0,0 +1,22 @@
+-- 목록 조회 쿼리용 인덱스 (TodoRepository, CommentRepository, ManagerRepository)
+
+-- GET /todos 전체 조회 : ORDER BY modified_at DESC / 기간 검색 : modified_at BETWEEN
+-- 내림차순 인덱스 -> 최신순 정렬을 정렬 작업 없이 인덱스 순서대로 읽음
+create index idx_todos_modified_at on todos (modified_at desc);
+
+-- GET /todos?weather= : weather = ? (+ 최신순 정렬)
+create index idx_todos_weather_modified_at on todos (weather, modified_at desc);
+
+-- 댓글 목록 : todo_id = ?
+create index idx_comments_todo_id on comments (todo_id);
+
+-- 같은 일정에 같은 담당자 중복 등록 방지 (todo_id = ? 조회에도 사용)
+-- 기존 중복 데이터는 가장 먼저 등록된 것만 남김
+delete from managers
+where id not in (
+    select keep_id from (
+        select min(id) as keep_id from managers group by todo_id, user_id
+    ) keep_ids
+);
+
+alter table managers add constraint uk_managers_todo_id_user_id unique (todo_id, user_id);
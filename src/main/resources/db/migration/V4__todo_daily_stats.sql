@@ -0,0 +1,18 @@
+-- 일별/날씨별 할 일 개수 요약 (GET /todos/facets)
+-- saveTodo 에서 같은 트랜잭션으로 +1 (INSERT ... ON DUPLICATE KEY UPDATE)
+create table todo_daily_stats (
+    stat_date  date         not null,
+    weather    varchar(255) not null,
+    todo_count bigint       not null,
+    primary key (stat_date, weather)
+) engine=InnoDB;
+
+-- 요약 재계산용 GROUP BY (created_at 범위 + weather) 를 인덱스만으로 처리
+create index idx_todos_created_at_weather on todos (created_at, weather);
+
+-- 기존 데이터 채우기
+insert into todo_daily_stats (stat_date, weather, todo_count)
+select cast(created_at as date), coalesce(weather, 'Unknown'), count(*)
+from todos
+where created_at is not null
+group by cast(created_at as date), coalesce(weather, 'Unknown');
@@ -0,0 +1,19 @@
+-- 도메인 이벤트 아웃박스 (할 일/댓글/담당자 변경과 같은 트랜잭션으로 INSERT)
+-- OutboxDispatcher 가 PENDING 행을 id 순으로 SELECT ... FOR UPDATE SKIP LOCKED 로 가져가 처리
+create table outbox_events (
+    id             bigint       not null auto_increment,
+    aggregate_type varchar(50)  not null,
+    aggregate_id   bigint       not null,
+    event_type     varchar(100) not null,
+    payload        varchar(4000) not null,
+    status         enum ('PENDING','DISPATCHED','FAILED') not null,
+    attempts       integer      not null,
+    last_error     varchar(500),
+    created_at     datetime(6)  not null,
+    available_at   datetime(6)  not null,
+    dispatched_at  datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+-- 처리 대기 행 조회 (status = 'PENDING' ORDER BY id), 처리 완료 행 정리
+create index idx_outbox_events_status_id on outbox_events (status, id);
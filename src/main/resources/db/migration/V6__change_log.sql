@@ -0,0 +1,20 @@
+-- 클라이언트 동기화용 변경 이력 (GET /todos/changes)
+-- seq : 단조 증가 변경 번호 -> "since 이후 변경" 을 PK 범위 조회로 처리
+-- 삭제도 행으로 남김 (tombstone)
+create table change_log (
+    seq         bigint      not null auto_increment,
+    entity_type enum ('TODO','COMMENT','MANAGER') not null,
+    entity_id   bigint      not null,
+    todo_id     bigint      not null,
+    operation   enum ('UPSERT','DELETE') not null,
+    changed_at  datetime(6) not null,
+    primary key (seq)
+) engine=InnoDB;
+
+-- 기존 데이터는 UPSERT 한 건씩으로 채움 (since=0 전체 동기화 시작점)
+insert into change_log (entity_type, entity_id, todo_id, operation, changed_at)
+select 'TODO', id, id, 'UPSERT', coalesce(modified_at, created_at, current_timestamp(6)) from todos order by id;
+insert into change_log (entity_type, entity_id, todo_id, operation, changed_at)
+select 'COMMENT', id, todo_id, 'UPSERT', coalesce(modified_at, created_at, current_timestamp(6)) from comments order by id;
+insert into change_log (entity_type, entity_id, todo_id, operation, changed_at)
+select 'MANAGER', id, todo_id, 'UPSERT', current_timestamp(6) from managers order by id;
@@ -0,0 +1,36 @@
+-- 오래된 할 일(+ 댓글, 담당자) 보관용 테이블 (TodoArchiveService 가 청크 단위로 이동)
+-- 원본과 같은 컬럼 + archived_at, 원본 id 그대로 사용 (auto_increment x)
+-- 외래 키 없음 -> 이동 순서와 관계없이 INSERT 가능
+create table todos_archive (
+    id          bigint not null,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    user_id     bigint not null,
+    contents    varchar(255),
+    title       varchar(255),
+    weather     varchar(255),
+    archived_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table comments_archive (
+    id          bigint not null,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    todo_id     bigint not null,
+    user_id     bigint not null,
+    contents    varchar(255),
+    archived_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table managers_archive (
+    id          bigint not null,
+    todo_id     bigint not null,
+    user_id     bigint not null,
+    archived_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_comments_archive_todo_id on comments_archive (todo_id);
+create index idx_managers_archive_todo_id on managers_archive (todo_id);
@@ -0,0 +1,19 @@
+-- POST /todos, 댓글, 담당자 등록의 Idempotency-Key 별 처리 결과
+-- (user_id, idempotency_key) 유니크 -> 여러 서버에서 같은 키가 동시에 들어와도 한 요청만 처리
+create table idempotency_keys (
+    id              bigint        not null auto_increment,
+    user_id         bigint        not null,
+    idempotency_key varchar(255)  not null,
+    request_hash    varchar(64)   not null,
+    status          enum ('PROCESSING','COMPLETED') not null,
+    response_status integer,
+    response_body   varchar(4000),
+    created_at      datetime(6)   not null,
+    expires_at      datetime(6)   not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table idempotency_keys add constraint uk_idempotency_keys_user_key unique (user_id, idempotency_key);
+
+-- 만료 행 정리
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
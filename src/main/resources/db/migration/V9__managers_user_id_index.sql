@@ -0,0 +1,3 @@
+-- GET /users/me/todos : 내가 담당자인 할 일 id 를 user_id = ? 로 인덱스만 읽고 조회
+-- (기존 uk_managers_todo_id_user_id 는 todo_id 가 앞이라 user_id 조건에 쓰이지 않음)
+create index idx_managers_user_id_todo_id on managers (user_id, todo_id);
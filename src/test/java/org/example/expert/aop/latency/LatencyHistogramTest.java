@@ -0,0 +1,55 @@
+package org.example.expert.aop.latency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 백분위_값은_상대오차_범위_안에서_계산된다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram("test", 4);
+
+        // when : 1ms ~ 1000ms 균등 분포
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.recordNanos(i * 1_000_000L);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertEquals(1_000, snapshot.getTotalCount());
+        assertWithin(500_000, snapshot.valueAtPercentile(50.0));
+        assertWithin(990_000, snapshot.valueAtPercentile(99.0));
+        assertWithin(1_000_000, snapshot.getMaxMicros());
+    }
+
+    @Test
+    void interval_조회는_직전_조회_이후_기록만_반환하고_reset_은_누적값을_비운다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram("test", 4);
+        histogram.recordNanos(10_000L);
+        histogram.intervalSnapshot();
+
+        // when
+        histogram.recordNanos(20_000L);
+        histogram.recordNanos(30_000L);
+        LatencyHistogram.Snapshot interval = histogram.intervalSnapshot();
+
+        // then
+        assertEquals(2, interval.getTotalCount());
+        assertEquals(50, interval.getSumMicros());
+        assertEquals(3, histogram.snapshot().getTotalCount());
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getTotalCount());
+        assertEquals(0, histogram.intervalSnapshot().getTotalCount());
+    }
+
+    private static void assertWithin(long expectedMicros, long actualMicros) {
+        // 칸 하나 = 1/32 -> 약 3%
+        assertTrue(Math.abs(actualMicros - expectedMicros) <= expectedMicros * 0.04,
+                () -> "expected ~" + expectedMicros + " but was " + actualMicros);
+    }
+}
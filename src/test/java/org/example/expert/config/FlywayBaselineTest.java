@@ -0,0 +1,42 @@
+package org.example.expert.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Flyway 도입 전(ddl-auto) DB 에 baseline-on-migrate 로 적용했을 때 이후 테이블이 모두 생성되는지 확인
+class FlywayBaselineTest {
+
+    @Test
+    void 기존_DB_는_V1_을_건너뛰고_V2_부터_모든_테이블을_만든다() {
+        // given : ddl-auto 로 만들어진 기존 스키마 (users, todos, comments, managers) + Flyway 이력 없음
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-baseline;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(dataSource);
+
+        // when : application.yml 과 같은 baseline 설정
+        MigrateResult result = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // then
+        assertEquals("2", result.migrations.get(0).version);
+        List<String> tables = new JdbcTemplate(dataSource).queryForList(
+                "SELECT LOWER(table_name) FROM information_schema.tables WHERE table_schema = 'PUBLIC' "
+                        + "AND LOWER(table_name) <> 'flyway_schema_history' ORDER BY 1", String.class);
+        assertEquals(List.of("admin_audit_logs", "change_log", "comments", "comments_archive", "idempotency_keys",
+                "managers", "managers_archive", "outbox_events", "todo_daily_stats", "todos", "todos_archive", "users"), tables);
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    @Test
+    void 용량이_0_이하인_라우트는_시작할_때_거부한다() {
+        // given
+        RateLimitProperties zero = properties(route(0, Duration.ofMinutes(1)));
+        RateLimitProperties negative = properties(route(-1, Duration.ofMinutes(1)));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> new RateLimiter(zero));
+        assertThrows(IllegalStateException.class, () -> new RateLimiter(negative));
+    }
+
+    @Test
+    void 충전_간격이_0_이하인_라우트는_시작할_때_거부한다() {
+        // given
+        RateLimitProperties zero = properties(route(5, Duration.ZERO));
+        RateLimitProperties negative = properties(route(5, Duration.ofSeconds(-1)));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> new RateLimiter(zero));
+        assertThrows(IllegalStateException.class, () -> new RateLimiter(negative));
+    }
+
+    @Test
+    void 올바른_라우트는_용량만큼_허용한다() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(properties(route(2, Duration.ofMinutes(1))));
+        RateLimiter.RouteLimiter limiter = rateLimiter.match("POST", "/auth/signin");
+
+        // when & then
+        assertTrue(rateLimiter.tryAcquire(limiter, "1.1.1.1").isAllowed());
+        assertTrue(rateLimiter.tryAcquire(limiter, "1.1.1.1").isAllowed());
+        // 1분에 2개 -> 30초마다 1개 충전
+        assertEquals(30L, rateLimiter.tryAcquire(limiter, "1.1.1.1").getRetryAfterSeconds());
+    }
+
+    private RateLimitProperties properties(RateLimitProperties.Route route) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        return properties;
+    }
+
+    private RateLimitProperties.Route route(long capacity, Duration refillPeriod) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName("signin");
+        route.setPattern("/auth/signin");
+        route.setCapacity(capacity);
+        route.setRefillPeriod(refillPeriod);
+        return route;
+    }
+}
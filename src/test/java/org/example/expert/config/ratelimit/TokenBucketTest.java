@@ -0,0 +1,56 @@
+package org.example.expert.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void 용량만큼_연속_요청은_허용되고_초과하면_대기시간을_반환한다() {
+        // given
+        long now = 0L;
+        TokenBucket bucket = new TokenBucket(5, MINUTE, now);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, bucket.tryConsume(now));
+        }
+        long waitNanos = bucket.tryConsume(now);
+
+        // then
+        // 1분에 5개 -> 12초마다 1개 충전
+        assertEquals(TimeUnit.SECONDS.toNanos(12), waitNanos);
+        assertEquals(0L, bucket.availableTokens(now));
+    }
+
+    @Test
+    void 충전_간격이_지나면_다시_허용된다() {
+        // given
+        TokenBucket bucket = new TokenBucket(1, MINUTE, 0L);
+        assertEquals(0L, bucket.tryConsume(0L));
+
+        // when & then
+        assertTrue(bucket.tryConsume(MINUTE - 1) > 0);
+        assertEquals(0L, bucket.tryConsume(MINUTE));
+    }
+
+    @Test
+    void 가득_찬_버킷은_유휴_상태로_판단한다() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, MINUTE, 0L);
+
+        // when
+        bucket.tryConsume(0L);
+
+        // then
+        assertFalse(bucket.isIdle(0L));
+        assertTrue(bucket.isIdle(MINUTE / 2));
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.expert.config.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.security.JwtUtil;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentReactiveService;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.service.ManagerReactiveService;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoReactiveService;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// JDBC 와 같은 인메모리 H2 를 R2DBC 로 읽어 기존(JPA) 목록과 같은 결과를 내는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-read;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "reactive-read.enabled=true",
+        "reactive-read.url=r2dbc:h2:mem:///reactive-read?options=MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "reactive-read.username=sa",
+        "reactive-read.password=",
+        "rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReactiveReadTest {
+
+    @Autowired
+    private TodoReactiveService todoReactiveService;
+    @Autowired
+    private CommentReactiveService commentReactiveService;
+    @Autowired
+    private ManagerReactiveService managerReactiveService;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("comments", "managers", "outbox_events", "change_log", "todo_daily_stats", "todos", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void 할_일_목록은_기존_목록과_같은_조건과_순서로_스트리밍된다() {
+        // given : 날씨 2종류 x 3개, 수정일은 id 순서와 다르게
+        User user = userRepository.save(new User("reactive@test.com", "password", UserRole.ROLE_USER, "reactive"));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.ROLE_USER);
+        List<Long> todoIds = new ArrayList<>();
+        for (String weather : List.of("Sunny", "Rainy", "Sunny", "Rainy", "Sunny", "Rainy")) {
+            given(weatherClient.getTodayWeather()).willReturn(weather);
+            todoIds.add(todoService.saveTodo(authUser, new TodoSaveRequest("reactive", "contents")).getId());
+        }
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (Long todoId : todoIds) {
+            jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?",
+                    Timestamp.valueOf(base.plusMinutes((todoId * 7) % 10)), todoId);
+        }
+
+        // when
+        List<TodoResponse> all = todoReactiveService.getTodos(null, null, null, 1, 4).collectList().block();
+        List<TodoResponse> secondPage = todoReactiveService.getTodos(null, null, null, 2, 4).collectList().block();
+        List<TodoResponse> sunny = todoReactiveService.getTodos("Sunny", null, null, 1, 10).collectList().block();
+
+        // then
+        assertEquals(ids(todoService.getTodos(null, null, null, 1, 4).getContent()), ids(all));
+        assertEquals(ids(todoService.getTodos(null, null, null, 2, 4).getContent()), ids(secondPage));
+        assertEquals(3, sunny.size());
+        sunny.forEach(todo -> assertEquals("Sunny", todo.getWeather()));
+        assertEquals(user.getEmail(), all.get(0).getUser().getEmail());
+        assertThrows(InvalidRequestException.class,
+                () -> todoReactiveService.getTodos(null, null, null, 0, 10).collectList().block());
+        assertThrows(InvalidRequestException.class,
+                () -> todoReactiveService.getTodos(null, null, null, 1, 101).collectList().block());
+    }
+
+    @Test
+    void 댓글과_담당자_목록을_id_순서로_스트리밍하고_없는_할_일이면_예외가_발생한다() {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        User user = userRepository.save(new User("comments@test.com", "password", UserRole.ROLE_USER, "comments"));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.ROLE_USER);
+        long todoId = todoService.saveTodo(authUser, new TodoSaveRequest("reactive", "contents")).getId();
+        commentService.saveComment(authUser, todoId, new CommentSaveRequest("first"));
+        commentService.saveComment(authUser, todoId, new CommentSaveRequest("second"));
+
+        // when
+        List<CommentResponse> comments = commentReactiveService.getComments(todoId).collectList().block();
+        List<ManagerResponse> managers = managerReactiveService.getManagers(todoId).collectList().block();
+
+        // then
+        assertEquals(List.of("first", "second"), comments.stream().map(CommentResponse::getContents).toList());
+        assertEquals(1, managers.size());
+        assertEquals(user.getId(), managers.get(0).getUser().getId());
+        assertThrows(InvalidRequestException.class,
+                () -> managerReactiveService.getManagers(todoId + 100).collectList().block());
+    }
+
+    @Test
+    void NDJSON_응답은_JWT_인증_후_비동기_디스패치에서_한_줄에_하나씩_쓰인다() throws Exception {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        User user = userRepository.save(new User("ndjson@test.com", "password", UserRole.ROLE_USER, "ndjson"));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.ROLE_USER);
+        for (int i = 0; i < 3; i++) {
+            todoService.saveTodo(authUser, new TodoSaveRequest("ndjson" + i, "contents"));
+        }
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.ROLE_USER, user.getNickname());
+
+        // when : 최초 요청은 인증 후 비동기 시작, 본문은 ASYNC 디스패치에서 완성
+        MvcResult started = mockMvc.perform(get("/reactive/todos").param("size", "2")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        // then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        List<Long> streamed = new ArrayList<>();
+        for (String line : lines) {
+            streamed.add(objectMapper.readValue(line, TodoResponse.class).getId());
+        }
+        assertEquals(ids(todoService.getTodos(null, null, null, 1, 2).getContent()), streamed);
+        // 토큰이 없으면 비동기 처리 전에 보안 필터에서 거절
+        mockMvc.perform(get("/reactive/todos").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void 스트림_시작_전_InvalidRequestException_은_NDJSON_요청에도_400_JSON_으로_응답한다() throws Exception {
+        // given
+        User user = userRepository.save(new User("missing@test.com", "password", UserRole.ROLE_USER, "missing"));
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.ROLE_USER, user.getNickname());
+
+        // when
+        MvcResult started = mockMvc.perform(get("/reactive/todos/{todoId}/managers", 999_999L)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value("Todo not found"));
+    }
+
+    private static List<Long> ids(List<TodoResponse> todos) {
+        return todos.stream().map(TodoResponse::getId).toList();
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.expert.config.seed;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Flyway 스키마(H2 MySQL 모드)에 생성 개수, 파생 테이블, 재현성, Zipf 쏠림 확인
+class DataSeederTest {
+
+    private static final LocalDateTime UNTIL = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    @Test
+    void 설정한_개수만큼_생성되고_작성자가_담당자로_등록된다() {
+        // given
+        DataSource dataSource = migratedDataSource("seed-counts");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // when
+        new DataSeeder(dataSource, properties(7L), "hash", true).seed();
+
+        // then
+        assertEquals(50, count(jdbcTemplate, "SELECT COUNT(*) FROM users"));
+        assertEquals(300, count(jdbcTemplate, "SELECT COUNT(*) FROM todos"));
+        assertEquals(1_000, count(jdbcTemplate, "SELECT COUNT(*) FROM comments"));
+        assertEquals(0, count(jdbcTemplate, "SELECT COUNT(*) FROM todos t WHERE NOT EXISTS "
+                + "(SELECT 1 FROM managers m WHERE m.todo_id = t.id AND m.user_id = t.user_id)"));
+        assertEquals(0, count(jdbcTemplate, "SELECT COUNT(*) FROM comments c JOIN todos t ON t.id = c.todo_id "
+                + "WHERE c.created_at < t.created_at"));
+        long managers = count(jdbcTemplate, "SELECT COUNT(*) FROM managers");
+        assertTrue(managers > 300);
+        assertEquals(300 + 1_000 + managers, count(jdbcTemplate, "SELECT COUNT(*) FROM change_log"));
+        assertEquals(300, count(jdbcTemplate, "SELECT SUM(todo_count) FROM todo_daily_stats"));
+        // IDENTITY 시작값이 조정되어 id 없이 INSERT 해도 충돌하지 않음
+        jdbcTemplate.update("INSERT INTO users (email, nickname, password, user_role) VALUES ('next@test.com', 'next', 'p', 'ROLE_USER')");
+        assertEquals(51, count(jdbcTemplate, "SELECT id FROM users WHERE email = 'next@test.com'"));
+    }
+
+    @Test
+    void 같은_시드면_같은_데이터가_생성된다() {
+        // given
+        DataSource first = migratedDataSource("seed-repeat-1");
+        DataSource second = migratedDataSource("seed-repeat-2");
+        DataSource other = migratedDataSource("seed-repeat-3");
+
+        // when
+        new DataSeeder(first, properties(7L), "hash", true).seed();
+        new DataSeeder(second, properties(7L), "hash", true).seed();
+        new DataSeeder(other, properties(8L), "hash", true).seed();
+
+        // then
+        assertEquals(snapshot(first), snapshot(second));
+        assertNotEquals(snapshot(first), snapshot(other));
+    }
+
+    @Test
+    void Zipf_분포는_상위_순위에_몰린다() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(1_000, 1.0);
+        SplittableRandom random = new SplittableRandom(1L);
+        int samples = 200_000;
+        int[] counts = new int[1_001];
+
+        // when
+        for (int i = 0; i < samples; i++) {
+            counts[(int) sampler.sample(random)]++;
+        }
+
+        // then : P(1) = 1 / H(1000) ≈ 0.1336, P(2) = P(1) / 2
+        assertEquals(0.1336, (double) counts[1] / samples, 0.005);
+        assertEquals(0.0668, (double) counts[2] / samples, 0.004);
+        assertTrue(counts[1] > counts[10] * 5);
+    }
+
+    private static SeedProperties properties(long randomSeed) {
+        SeedProperties properties = new SeedProperties();
+        properties.setRandomSeed(randomSeed);
+        properties.setUsers(50);
+        properties.setTodos(300);
+        properties.setComments(1_000);
+        properties.setExtraManagersPerTodo(1.5);
+        properties.setDays(30);
+        properties.setUntil(UNTIL);
+        // 마지막 문장이 꽉 차지 않는 경우와 중간 커밋 모두 거치도록
+        properties.setRowsPerInsert(7);
+        return properties;
+    }
+
+    private static DataSource migratedDataSource(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        return dataSource;
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static List<Map<String, Object>> snapshot(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.addAll(jdbcTemplate.queryForList("SELECT id, user_id, title, weather, created_at, modified_at FROM todos ORDER BY id"));
+        rows.addAll(jdbcTemplate.queryForList("SELECT id, todo_id, user_id FROM managers ORDER BY id"));
+        rows.addAll(jdbcTemplate.queryForList("SELECT id, todo_id, user_id, created_at FROM comments ORDER BY id"));
+        return rows;
+    }
+}
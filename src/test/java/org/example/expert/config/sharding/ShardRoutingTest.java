@@ -0,0 +1,216 @@
+package org.example.expert.config.sharding;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.MyTodosResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+// 인메모리 H2 샤드 3개 + 글로벌 DB 로 샤드 라우팅, users 참조 복사, 샤드 병합 목록(페이지/키셋) 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharding-global;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "sharding.enabled=true",
+        "sharding.shards[0].url=jdbc:h2:mem:sharding-0;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "sharding.shards[0].username=sa",
+        "sharding.shards[1].url=jdbc:h2:mem:sharding-1;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "sharding.shards[1].username=sa",
+        "sharding.shards[2].url=jdbc:h2:mem:sharding-2;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "sharding.shards[2].username=sa",
+        "rate-limit.enabled=false"
+})
+class ShardRoutingTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ShardDataSources shardDataSources;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private JdbcTemplate global;
+    private List<JdbcTemplate> shards;
+
+    @BeforeEach
+    void setUp() {
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        global = new JdbcTemplate(shardDataSources.getGlobal());
+        shards = shardDataSources.getShards().stream().map(JdbcTemplate::new).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<JdbcTemplate> all = new ArrayList<>(shards);
+        all.add(global);
+        for (JdbcTemplate jdbcTemplate : all) {
+            for (String table : List.of("comments", "managers", "outbox_events", "change_log", "todo_daily_stats", "todos", "users")) {
+                jdbcTemplate.update("DELETE FROM " + table);
+            }
+        }
+    }
+
+    @Test
+    void 할_일과_댓글은_작성자_user_id_의_샤드에_저장되고_id_로_다시_찾아간다() {
+        // given : 서로 다른 샤드에 배치되는 유저 3명
+        List<AuthUser> authUsers = new ArrayList<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            User user = userRepository.save(new User("shard" + i + "@test.com", "password", UserRole.ROLE_USER, "shard" + i));
+            authUsers.add(new AuthUser(user.getId(), user.getEmail(), UserRole.ROLE_USER));
+        }
+
+        for (AuthUser authUser : authUsers) {
+            // when
+            TodoSaveResponse saved = todoService.saveTodo(authUser, new TodoSaveRequest("todo-" + authUser.getId(), "contents"));
+            commentService.saveComment(authUser, saved.getId(), new CommentSaveRequest("comment-" + authUser.getId()));
+
+            // then : 작성자 샤드에만 저장, id 로 계산한 샤드와 일치
+            int shard = (int) (authUser.getId() % SHARD_COUNT);
+            assertEquals(shard, (saved.getId() - 1) % SHARD_COUNT);
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                int expected = i == shard ? 1 : 0;
+                assertEquals(expected, count(shards.get(i), "todos WHERE id = " + saved.getId()));
+                assertEquals(expected, count(shards.get(i), "comments WHERE todo_id = " + saved.getId()));
+            }
+            assertEquals(0, count(global, "todos"));
+
+            TodoResponse found = todoService.getTodo(saved.getId());
+            assertEquals("todo-" + authUser.getId(), found.getTitle());
+            assertEquals(authUser.getEmail(), found.getUser().getEmail());
+            assertEquals(1, commentService.getComments(saved.getId()).size());
+        }
+    }
+
+    @Test
+    void users_는_글로벌이_원본이고_샤드에는_비밀번호_없이_복사된다() {
+        // when
+        User user = userRepository.save(new User("global@test.com", "password", UserRole.ROLE_USER, "global"));
+
+        // then
+        assertEquals("password", global.queryForObject("SELECT password FROM users WHERE id = ?", String.class, user.getId()));
+        for (JdbcTemplate shard : shards) {
+            assertEquals("global@test.com", shard.queryForObject("SELECT email FROM users WHERE id = ?", String.class, user.getId()));
+            assertNull(shard.queryForObject("SELECT password FROM users WHERE id = ?", String.class, user.getId()));
+        }
+    }
+
+    @Test
+    void 목록은_모든_샤드를_수정일_내림차순으로_병합해_페이지를_자른다() {
+        // given : 유저 3명이 2개씩, 수정일은 할 일마다 다르게
+        List<Long> todoIds = new ArrayList<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            User user = userRepository.save(new User("list" + i + "@test.com", "password", UserRole.ROLE_USER, "list" + i));
+            AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.ROLE_USER);
+            for (int j = 0; j < 2; j++) {
+                todoIds.add(todoService.saveTodo(authUser, new TodoSaveRequest("list", "contents")).getId());
+            }
+        }
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        // id 순서와 다른 수정일 순서 : (id * 7) % 10
+        for (Long todoId : todoIds) {
+            shards.get((int) ((todoId - 1) % SHARD_COUNT)).update("UPDATE todos SET modified_at = ? WHERE id = ?",
+                    Timestamp.valueOf(base.plusMinutes((todoId * 7) % 10)), todoId);
+        }
+        List<Long> expected = todoIds.stream()
+                .sorted(Comparator.comparing((Long id) -> (id * 7) % 10).reversed())
+                .toList();
+
+        // when
+        PageResponse<TodoResponse> first = todoService.getTodos(null, null, null, 1, 4);
+        PageResponse<TodoResponse> second = todoService.getTodos(null, null, null, 2, 4);
+
+        // then
+        assertEquals(6, first.getTotalElements());
+        assertEquals(2, first.getTotalPages());
+        assertEquals(expected.subList(0, 4), first.getContent().stream().map(TodoResponse::getId).toList());
+        assertEquals(expected.subList(4, 6), second.getContent().stream().map(TodoResponse::getId).toList());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void 내_할_일은_모든_샤드의_작성_및_담당_할_일을_커서로_이어서_읽는다() {
+        // given : 유저 3명이 2개씩, 나(0번)는 다른 유저 할 일 중 하나씩 담당자, 내 할 일 하나에서는 담당자에서 빠짐
+        List<AuthUser> authUsers = new ArrayList<>();
+        List<List<Long>> todoIdsByUser = new ArrayList<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            User user = userRepository.save(new User("mine" + i + "@test.com", "password", UserRole.ROLE_USER, "mine" + i));
+            AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.ROLE_USER);
+            authUsers.add(authUser);
+            List<Long> todoIds = new ArrayList<>();
+            for (int j = 0; j < 2; j++) {
+                todoIds.add(todoService.saveTodo(authUser, new TodoSaveRequest("mine", "contents")).getId());
+            }
+            todoIdsByUser.add(todoIds);
+        }
+        AuthUser me = authUsers.get(0);
+        List<Long> mine = List.of(todoIdsByUser.get(0).get(0), todoIdsByUser.get(0).get(1),
+                todoIdsByUser.get(1).get(0), todoIdsByUser.get(2).get(1));
+        shardOf(mine.get(1)).update("DELETE FROM managers WHERE todo_id = ? AND user_id = ?", mine.get(1), me.getId());
+        for (Long todoId : mine.subList(2, 4)) {
+            shardOf(todoId).update("INSERT INTO managers (todo_id, user_id) VALUES (?, ?)", todoId, me.getId());
+        }
+        // 샤드가 섞이도록 수정일 순서 : c(2번 유저) -> 내 것 1 -> b(1번 유저) -> 내 것 0
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Long> expected = List.of(mine.get(3), mine.get(1), mine.get(2), mine.get(0));
+        for (int i = 0; i < expected.size(); i++) {
+            shardOf(expected.get(i)).update("UPDATE todos SET modified_at = ? WHERE id = ?",
+                    Timestamp.valueOf(base.minusMinutes(i)), expected.get(i));
+        }
+
+        // when
+        MyTodosResponse first = todoService.getMyTodos(me, null, 3);
+        MyTodosResponse second = todoService.getMyTodos(me, first.getNextCursor(), 3);
+
+        // then
+        assertEquals(expected.subList(0, 3), first.getTodos().stream().map(TodoResponse::getId).toList());
+        assertTrue(first.isHasNext());
+        assertEquals(expected.subList(3, 4), second.getTodos().stream().map(TodoResponse::getId).toList());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        assertEquals(authUsers.get(2).getEmail(), first.getTodos().get(0).getUser().getEmail());
+        assertThrows(InvalidRequestException.class, () -> todoService.getMyTodos(me, "not-a-cursor", 3));
+    }
+
+    private JdbcTemplate shardOf(long todoId) {
+        return shards.get((int) ((todoId - 1) % SHARD_COUNT));
+    }
+
+    private int count(JdbcTemplate jdbcTemplate, String from) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + from, Integer.class);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.expert.config.singleflight;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void 같은_키_동시_요청은_한_번만_조회하고_결과를_공유한다() throws Exception {
+        // given : 첫 조회가 끝나지 않은 상태에서 나머지 요청 도착
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("todo", true);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "todo-1";
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+
+            // when : 나머지 요청이 모두 대기에 들어간 뒤 첫 조회 완료
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.getStats().getMerged() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertEquals("todo-1", result.get(5, TimeUnit.SECONDS));
+            }
+            SingleFlightStatsResponse stats = singleFlight.getStats();
+            assertEquals(1, loads.get());
+            assertEquals(CALLERS, stats.getCalls());
+            assertEquals(1, stats.getLoads());
+            assertEquals(CALLERS - 1, stats.getMerged());
+            assertEquals(0, stats.getInFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 조회_실패는_대기한_요청에도_같은_예외로_전달되고_다음_요청은_다시_조회한다() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("todo", true);
+        InvalidRequestException notFound = new InvalidRequestException("Todo not found");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loading.countDown();
+                await(release);
+                throw notFound;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() -> singleFlight.execute(1L, () -> "unused"));
+            while (singleFlight.getStats().getMerged() < 1) {
+                Thread.sleep(10);
+            }
+
+            // when
+            release.countDown();
+
+            // then
+            Exception firstError = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+            Exception secondError = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertSame(notFound, firstError.getCause());
+            assertSame(notFound, secondError.getCause());
+            assertEquals("reloaded", singleFlight.execute(1L, () -> "reloaded"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 비활성화하면_요청마다_조회한다() {
+        // given
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>("todo", false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        singleFlight.execute(1L, loads::incrementAndGet);
+        singleFlight.execute(1L, loads::incrementAndGet);
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals(0, singleFlight.getStats().getMerged());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
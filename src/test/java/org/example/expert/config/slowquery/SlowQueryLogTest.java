@@ -0,0 +1,70 @@
+package org.example.expert.config.slowquery;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowQueryLogTest {
+
+    private final DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:slow-query-test;DB_CLOSE_DELAY=-1", "sa", "");
+    private SlowQueryLog slowQueryLog;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        slowQueryLog.shutdown();
+    }
+
+    @Test
+    void 기준_이상_쿼리는_파라미터_타입과_실행계획이_기록된다() throws InterruptedException {
+        // given : 기준 0ms -> 모든 쿼리 기록
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 10, true);
+        DataSource proxy = ProxyDataSourceBuilder.create(dataSource)
+                .listener(new SlowQueryListener(slowQueryLog, dataSource))
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(proxy);
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, weather VARCHAR(50))");
+
+        // when
+        jdbcTemplate.queryForList("SELECT id FROM todos WHERE weather = ? AND id > ?", "Sunny", 10L);
+
+        // then
+        SlowQueryRecord record = slowQueryLog.getRecent(1).get(0);
+        assertEquals(List.of("String(5)", "Long"), record.getParameterShapes());
+        assertNull(record.getRepositoryMethod());
+        for (int i = 0; i < 50 && record.getExplainPlan() == null; i++) {
+            Thread.sleep(20);
+        }
+        assertNotNull(record.getExplainPlan());
+        assertTrue(record.getExplainPlan().contains("TODOS"));
+    }
+
+    @Test
+    void 용량을_넘으면_오래된_기록부터_덮어쓴다() {
+        // given
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 3, false);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            slowQueryLog.add(new SlowQueryRecord(slowQueryLog.nextId(), null, 1, "update t set a = " + i,
+                    List.of(), 1, true, null), List.of(), dataSource);
+        }
+
+        // then
+        List<SlowQueryRecord> recent = slowQueryLog.getRecent(10);
+        assertEquals(List.of(5L, 4L, 3L), recent.stream().map(SlowQueryRecord::getId).toList());
+        assertEquals(5, slowQueryLog.getStats().getRecorded());
+        assertEquals(0, slowQueryLog.getStats().getExplainDropped());
+    }
+}
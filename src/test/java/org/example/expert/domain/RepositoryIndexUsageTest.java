@@ -0,0 +1,159 @@
+package org.example.expert.domain;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.slowquery.SlowQueryDataSourcePostProcessor;
+import org.example.expert.config.slowquery.SlowQueryLog;
+import org.example.expert.config.slowquery.SlowQueryRecord;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Flyway 마이그레이션으로 만든 H2(MySQL 모드) 스키마에서 주요 목록 쿼리가 인덱스를 타는지 확인
+// 실행 계획은 느린 쿼리 수집기(기준 0ms)가 실제 리포지토리 SQL 로 EXPLAIN 한 결과 사용
+// -> EXPLAIN 은 별도 커넥션에서 실행되므로 시드 데이터는 커밋 (테스트 트랜잭션 x)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, SlowQueryLog.class, SlowQueryDataSourcePostProcessor.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:index-usage;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "slow-query.threshold=0ms"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryIndexUsageTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User member;
+    private Todo firstTodo;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@test.com", "password", UserRole.ROLE_USER, "owner"));
+        member = userRepository.save(new User("member@test.com", "password", UserRole.ROLE_USER, "member"));
+
+        String[] weathers = {"Sunny", "Rainy", "Cloudy", "Snowy", "Windy"};
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, weathers[i % weathers.length], owner));
+        }
+        todoRepository.saveAll(todos);
+        firstTodo = todos.get(0);
+
+        List<Comment> comments = new ArrayList<>();
+        for (Todo todo : todos) {
+            comments.add(new Comment("comment", member, todo));
+        }
+        commentRepository.saveAll(comments);
+        managerRepository.save(new Manager(member, firstTodo));
+        slowQueryLog.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 할일_목록_쿼리는_modified_at_인덱스를_사용한다() throws InterruptedException {
+        // when
+        todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 10));
+        todoRepository.findByModifiedAt(LocalDateTime.now().minusDays(1), LocalDateTime.now(), PageRequest.of(0, 10));
+
+        // then
+        String latestFirstPlan = planOf("order by");
+        assertTrue(latestFirstPlan.contains("IDX_TODOS_MODIFIED_AT"));
+        // 정렬 없이 인덱스 순서로 읽음
+        assertTrue(latestFirstPlan.contains("index sorted"));
+        assertTrue(planOf("between").contains("IDX_TODOS_MODIFIED_AT: MODIFIED_AT >= ?1"));
+    }
+
+    @Test
+    void 날씨_검색_쿼리는_weather_복합_인덱스를_사용한다() throws InterruptedException {
+        // when
+        todoRepository.findByWeather("Sunny", PageRequest.of(0, 10));
+
+        // then
+        assertTrue(planOf("select t1_0.id").contains("IDX_TODOS_WEATHER_MODIFIED_AT: WEATHER = ?1"));
+        assertTrue(planOf("select count").contains("IDX_TODOS_WEATHER_MODIFIED_AT: WEATHER = ?1"));
+    }
+
+    @Test
+    void 댓글과_담당자_조회는_todo_id_인덱스를_사용한다() throws InterruptedException {
+        // when
+        commentRepository.findByTodoIdWithUser(firstTodo.getId());
+        managerRepository.findByTodoIdWithUser(firstTodo.getId());
+
+        // then
+        // H2 는 외래 키 인덱스(todo_id)도 자동 생성 -> 어느 쪽이든 todo_id 조건으로 인덱스 조회인지 확인
+        assertTrue(planOf("from comments").contains(": TODO_ID = ?1"));
+        assertTrue(planOf("from managers").contains(": TODO_ID = ?1"));
+    }
+
+    @Test
+    void 같은_일정에_같은_담당자는_중복_등록할_수_없다() {
+        // when & then
+        // 작성자(cascade 로 자동 등록), 이미 등록한 담당자 모두 중복
+        assertThrows(DataIntegrityViolationException.class,
+                () -> managerRepository.saveAndFlush(new Manager(owner, firstTodo)));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> managerRepository.saveAndFlush(new Manager(member, firstTodo)));
+    }
+
+    // 수집된 SELECT 중 sqlFragment 를 포함하는 쿼리의 실행 계획 (비동기 EXPLAIN 대기)
+    private String planOf(String sqlFragment) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            for (SlowQueryRecord record : slowQueryLog.getRecent(50)) {
+                if (record.getSql().startsWith("select") && record.getSql().contains(sqlFragment)
+                        && record.getExplainPlan() != null) {
+                    return record.getExplainPlan();
+                }
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("실행 계획 없음: " + sqlFragment);
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.expert.domain.archive.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.archive.dto.response.ArchiveRunResponse;
+import org.example.expert.domain.archive.entity.TodoArchive;
+import org.example.expert.domain.archive.repository.TodoArchiveRepository;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoListResponseCache;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 오래된 할 일 + 댓글 + 담당자가 청크 단위로 보관 테이블로 이동하는지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, ShardTemplate.class, TodoArchiveService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "archive.min-age=P365D",
+        "archive.chunk-size=2",
+        "archive.pause-between-chunks=0s"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoArchiveServiceTest {
+
+    @Autowired
+    private TodoArchiveService todoArchiveService;
+    @Autowired
+    private TodoArchiveRepository todoArchiveRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private TodoListResponseCache todoListResponseCache;
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("comments_archive", "managers_archive", "todos_archive",
+                "comments", "managers", "todos", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void 기준보다_오래된_할_일과_댓글_담당자를_청크로_나눠_보관한다() {
+        // given : 오래된 할 일 3개(댓글 1개씩) + 최근 할 일 1개, 할 일마다 작성자가 담당자로 등록됨
+        User user = userRepository.save(new User("archive@test.com", "password", UserRole.ROLE_USER, "archive"));
+        for (int i = 0; i < 3; i++) {
+            Todo todo = todoRepository.save(new Todo("old" + i, "contents", "Sunny", user));
+            commentRepository.save(new Comment("comment" + i, user, todo));
+        }
+        Todo recent = todoRepository.save(new Todo("recent", "contents", "Sunny", user));
+        jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id <> ?",
+                Timestamp.valueOf(LocalDateTime.now().minusYears(2)), recent.getId());
+
+        // when
+        ArchiveRunResponse result = todoArchiveService.run(10);
+
+        // then
+        assertEquals(3, result.getTodos());
+        assertEquals(3, result.getComments());
+        assertEquals(3, result.getManagers());
+        assertEquals(2, result.getChunks());
+        assertTrue(result.isCompleted());
+
+        assertEquals(List.of(recent.getId()), todoRepository.findAll().stream().map(Todo::getId).toList());
+        assertEquals(0, commentRepository.count());
+        assertEquals(1, count("managers"));
+        assertEquals(3, count("comments_archive"));
+        assertEquals(3, count("managers_archive"));
+
+        TodoArchive archived = todoArchiveRepository.findAll().get(0);
+        assertEquals("archive@test.com",
+                todoArchiveRepository.findByIdWithUser(archived.getId()).orElseThrow().getUser().getEmail());
+    }
+
+    @Test
+    void 청크_수_제한에_걸리면_남은_대상이_있다고_알린다() {
+        // given
+        User user = userRepository.save(new User("limit@test.com", "password", UserRole.ROLE_USER, "limit"));
+        for (int i = 0; i < 5; i++) {
+            todoRepository.save(new Todo("old" + i, "contents", "Sunny", user));
+        }
+        jdbcTemplate.update("UPDATE todos SET modified_at = ?", Timestamp.valueOf(LocalDateTime.now().minusYears(2)));
+
+        // when
+        ArchiveRunResponse result = todoArchiveService.run(1);
+
+        // then
+        assertEquals(2, result.getTodos());
+        assertFalse(result.isCompleted());
+        assertEquals(3, todoRepository.count());
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
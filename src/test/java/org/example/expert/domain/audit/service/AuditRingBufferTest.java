@@ -0,0 +1,78 @@
+package org.example.expert.domain.audit.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditRingBufferTest {
+
+    @Test
+    void 가득_차면_offer_가_실패하고_비우면_다시_들어간다() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // when
+        boolean overflow = buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 2);
+
+        // then
+        assertFalse(overflow);
+        assertEquals(List.of(0, 1), drained);
+        assertTrue(buffer.offer(5));
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_유실이나_중복_없이_꺼내진다() throws InterruptedException {
+        // given
+        int producers = 8;
+        int perProducer = 5_000;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (!buffer.offer(base + i)) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drainTo(batch, 100);
+            for (Integer value : batch) {
+                assertTrue(received.add(value));
+            }
+            batch.clear();
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(producers * perProducer, received.size() + rejected.get());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.user.dto.projection.UserEmailView;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmailBloomFilterTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    void 로딩_전에는_모든_이메일을_있을_수도_있음으로_판단한다() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, 1_000, 0.01);
+
+        // when & then
+        assertTrue(filter.mightContain("new@test.com"));
+    }
+
+    @Test
+    void 적재된_이메일과_가입_후_추가된_이메일은_항상_포함된다() {
+        // given
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(view(1L, "Test1@test.com"), view(2L, "test2@test.com")));
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, 1_000, 0.01);
+
+        // when
+        filter.load();
+        filter.put("test3@test.com");
+
+        // then
+        assertTrue(filter.mightContain("test1@test.com"));
+        assertTrue(filter.mightContain("test2@test.com"));
+        assertTrue(filter.mightContain("test3@test.com"));
+        assertFalse(filter.mightContain("nobody@test.com"));
+    }
+
+    private static UserEmailView view(Long id, String email) {
+        return new UserEmailView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.expert.domain.change.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.archive.service.TodoArchiveService;
+import org.example.expert.domain.change.dto.response.ChangeFeedResponse;
+import org.example.expert.domain.change.dto.response.ChangeItemResponse;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoListResponseCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 엔티티 콜백으로 쌓인 change_log 를 since 이후 피드로 조회, 비어 있는 seq 처리 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, ShardTemplate.class, ChangeFeedService.class, TodoArchiveService.class})
+// spring.transaction.default-timeout 적용 (슬라이스 테스트 기본 구성에는 없음)
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:change-feed;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "change-feed.gap-grace=PT5S",
+        "spring.transaction.default-timeout=3s",
+        "archive.min-age=P365D",
+        "archive.pause-between-chunks=0s"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChangeFeedServiceTest {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TodoArchiveService todoArchiveService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private TodoListResponseCache todoListResponseCache;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments_archive");
+        jdbcTemplate.update("DELETE FROM managers_archive");
+        jdbcTemplate.update("DELETE FROM todos_archive");
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM change_log");
+    }
+
+    @Test
+    void 생성과_삭제가_순서대로_피드에_나오고_삭제는_tombstone_으로_반환된다() {
+        // given
+        String start = latestToken();
+        User user = userRepository.save(new User("feed@test.com", "password", UserRole.ROLE_USER, "feed"));
+        // 할 일 생성 시 작성자가 담당자로 함께 저장됨 (cascade)
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        Comment comment = commentRepository.save(new Comment("hello", user, todo));
+        commentRepository.delete(comment);
+
+        // when
+        ChangeFeedResponse response = changeFeedService.getChanges(start, 100);
+        ChangeFeedResponse next = changeFeedService.getChanges(response.getNextToken(), 100);
+
+        // then
+        List<ChangeItemResponse> changes = response.getChanges();
+        assertEquals(List.of("TODO:UPSERT", "MANAGER:UPSERT", "COMMENT:DELETE"),
+                changes.stream().map(change -> change.getEntityType() + ":" + change.getOperation()).toList());
+        assertEquals(todo.getId(), changes.get(0).getTodoId());
+        assertNull(changes.get(2).getData());
+        assertFalse(response.isHasMore());
+        assertTrue(next.getChanges().isEmpty());
+        assertEquals(response.getNextToken(), next.getNextToken());
+    }
+
+    @Test
+    void 보관된_할_일의_댓글과_담당자는_tombstone_이_아니라_보관_데이터로_반환된다() {
+        // given : 할 일 + 댓글 (+ 작성자 담당자) 을 만든 뒤 보관
+        User user = userRepository.save(new User("archived-feed@test.com", "password", UserRole.ROLE_USER, "feed"));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        Comment comment = commentRepository.save(new Comment("hello", user, todo));
+        jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusYears(2)), todo.getId());
+        assertEquals(1, todoArchiveService.run(1).getTodos());
+
+        // when : 다른 테스트가 직접 넣은 seq 와 이어지지 않도록 이 할 일의 첫 변경 직전부터
+        Long firstSeq = jdbcTemplate.queryForObject(
+                "SELECT MIN(seq) FROM change_log WHERE todo_id = ?", Long.class, todo.getId());
+        ChangeFeedResponse response = changeFeedService.getChanges(String.valueOf(firstSeq - 1), 100);
+
+        // then
+        List<ChangeItemResponse> changes = response.getChanges();
+        assertEquals(List.of("TODO:UPSERT", "MANAGER:UPSERT", "COMMENT:UPSERT"),
+                changes.stream().map(change -> change.getEntityType() + ":" + change.getOperation()).toList());
+        assertEquals("title", ((TodoResponse) changes.get(0).getData()).getTitle());
+        assertEquals(user.getId(), ((ManagerResponse) changes.get(1).getData()).getUser().getId());
+        CommentResponse archivedComment = (CommentResponse) changes.get(2).getData();
+        assertEquals(comment.getId(), archivedComment.getId());
+        assertEquals("hello", archivedComment.getContents());
+    }
+
+    @Test
+    void 최근에_생긴_빈_seq_앞에서는_멈추고_오래된_빈_seq_는_건너뛴다() {
+        // given : seq 1, 2, (3 없음), 4
+        insertChange(1, LocalDateTime.now().minusMinutes(1));
+        insertChange(2, LocalDateTime.now().minusMinutes(1));
+        insertChange(4, LocalDateTime.now());
+
+        // when
+        ChangeFeedResponse recentGap = changeFeedService.getChanges("0", 100);
+        jdbcTemplate.update("UPDATE change_log SET changed_at = ? WHERE seq = 4",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+        ChangeFeedResponse oldGap = changeFeedService.getChanges(recentGap.getNextToken(), 100);
+
+        // then
+        assertEquals(List.of(1L, 2L), recentGap.getChanges().stream().map(ChangeItemResponse::getSeq).toList());
+        assertEquals("2", recentGap.getNextToken());
+        assertEquals(List.of(4L), oldGap.getChanges().stream().map(ChangeItemResponse::getSeq).toList());
+        assertEquals("4", oldGap.getNextToken());
+    }
+
+    @Test
+    void gap_grace_가_트랜잭션_제한_시간보다_길지_않으면_시작하지_않는다() {
+        // given
+        JpaTransactionManager withTimeout = new JpaTransactionManager();
+        withTimeout.setDefaultTimeout(10);
+        JpaTransactionManager withoutTimeout = new JpaTransactionManager();
+
+        // when & then : 설정 확인이 먼저 -> 저장소는 사용되지 않음
+        assertThrows(IllegalStateException.class, () -> new ChangeFeedService(
+                null, null, null, null, null, null, null, null, Duration.ofSeconds(10), 500, withTimeout));
+        assertThrows(IllegalStateException.class, () -> new ChangeFeedService(
+                null, null, null, null, null, null, null, null, Duration.ofSeconds(15), 500, withoutTimeout));
+    }
+
+    private String latestToken() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM change_log", Long.class);
+        return String.valueOf(max == null ? 0 : max);
+    }
+
+    private void insertChange(long seq, LocalDateTime changedAt) {
+        jdbcTemplate.update("INSERT INTO change_log (seq, entity_type, entity_id, todo_id, operation, changed_at) "
+                + "VALUES (?, 'TODO', ?, ?, 'DELETE', ?)", seq, seq, seq, Timestamp.valueOf(changedAt));
+    }
+}
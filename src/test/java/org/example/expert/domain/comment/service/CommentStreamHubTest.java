@@ -0,0 +1,269 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.event.CommentCreatedEvent;
+import org.example.expert.domain.outbox.event.OutboxMessage;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CommentStreamHubTest {
+
+    private final CommentService commentService = mock(CommentService.class);
+    // 재연결 보충 : 2개씩 읽고 5개를 넘으면 resync / 전송 스레드 2개, 전송이 200ms 를 넘으면 멈춘 것으로 처리
+    private final CommentStreamHub hub = new CommentStreamHub(
+            commentService, new ObjectMapper(), Duration.ofMinutes(1), 4, 2, 5, 2, Duration.ofMillis(200));
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void 구독한_할_일의_댓글만_전달된다() throws Exception {
+        // given
+        RecordingEmitter todo1 = subscribe(1L, List.of());
+        RecordingEmitter todo2 = subscribe(2L, List.of());
+
+        // when
+        hub.broadcast(1L, comment(10L));
+        hub.broadcast(1L, comment(11L));
+
+        // then
+        todo1.awaitEvents(2);
+        assertEquals(List.of(10L, 11L), todo1.ids);
+        assertTrue(todo2.ids.isEmpty());
+    }
+
+    @Test
+    void 버퍼가_넘치는_느린_구독자는_끊고_나머지는_모두_받는다() throws Exception {
+        // given
+        RecordingEmitter slow = subscribe(1L, List.of());
+        slow.block();
+        RecordingEmitter fast = subscribe(1L, List.of());
+
+        // when : 느린 구독자는 첫 전송에서 멈춤 -> 큐(4개)가 넘침
+        for (long id = 1; id <= 10; id++) {
+            hub.broadcast(1L, comment(id));
+            fast.awaitEvents((int) id);
+        }
+        slow.unblock();
+
+        // then
+        assertEquals(LongStream.rangeClosed(1, 10).boxed().toList(), fast.ids);
+        assertEquals(1, hub.getStats().getDroppedSlowConsumers());
+        assertEquals(1, hub.getStats().getSubscribers());
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 읽지_않는_클라이언트가_전송_스레드를_모두_붙잡아도_나머지_구독자는_계속_받는다() throws Exception {
+        // given : 전송 스레드(2개)를 모두 붙잡는 읽지 않는 클라이언트 2명
+        RecordingEmitter stalled1 = subscribe(1L, List.of());
+        RecordingEmitter stalled2 = subscribe(1L, List.of());
+        stalled1.block();
+        stalled2.block();
+        RecordingEmitter healthy = subscribe(1L, List.of());
+        hub.broadcast(1L, comment(1L));
+        stalled1.awaitSending();
+        stalled2.awaitSending();
+
+        // when : send-timeout 이 지난 뒤 점검
+        Thread.sleep(300);
+        hub.closeStalledSends();
+        for (long id = 2; id <= 10; id++) {
+            hub.broadcast(1L, comment(id));
+            healthy.awaitEvents((int) id);
+        }
+
+        // then
+        assertEquals(LongStream.rangeClosed(1, 10).boxed().toList(), healthy.ids);
+        assertEquals(2, hub.getStats().getDroppedSlowConsumers());
+        assertEquals(2, hub.getStats().getStalledSends());
+        assertEquals(1, hub.getStats().getSubscribers());
+
+        // 멈췄던 전송이 돌아오면 연결을 끝내고 추가했던 스레드를 반납
+        stalled1.unblock();
+        stalled2.unblock();
+        assertTrue(stalled1.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(stalled2.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, hub.getStats().getStalledSends());
+    }
+
+    @Test
+    void 재연결하면_놓친_댓글을_먼저_보내고_중복된_실시간_이벤트는_건너뛴다() throws Exception {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        CommentStreamHub.Subscriber subscriber = hub.register(1L, emitter);
+        // DB 조회 중에 저장된 댓글 (조회 결과에도 포함됨)
+        hub.broadcast(1L, comment(6L));
+
+        // when
+        hub.start(subscriber, List.of(comment(5L), comment(6L)));
+        hub.broadcast(1L, comment(7L));
+
+        // then
+        emitter.awaitEvents(3);
+        assertEquals(List.of(5L, 6L, 7L), emitter.ids);
+    }
+
+    @Test
+    void 늦게_커밋된_작은_id_의_댓글도_건너뛰지_않는다() throws Exception {
+        // given : DB 에서 5, 6 을 보낸 뒤
+        RecordingEmitter emitter = subscribe(1L, List.of(comment(5L), comment(6L)));
+
+        // when : id 는 INSERT 시점에 정해짐 -> 커밋(전달) 순서는 id 순서와 다를 수 있음
+        hub.broadcast(1L, comment(11L));
+        hub.broadcast(1L, comment(10L));
+        hub.broadcast(1L, comment(4L));
+
+        // then
+        emitter.awaitEvents(5);
+        assertEquals(List.of(5L, 6L, 11L, 10L, 4L), emitter.ids);
+    }
+
+    @Test
+    void 놓친_댓글은_한도까지_페이지를_나눠_모두_보낸다() throws Exception {
+        // given : 마지막으로 받은 댓글 10 이후 5개
+        savedComments(1L, 11, 15);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        hub.subscribe(1L, 10L, emitter);
+
+        // then : 2 + 2 + 1
+        emitter.awaitEvents(5);
+        assertEquals(LongStream.rangeClosed(11, 15).boxed().toList(), emitter.ids);
+        verify(commentService, times(3)).getCommentsAfter(eq(1L), anyLong(), anyInt());
+        assertEquals(0, hub.getStats().getResyncs());
+    }
+
+    @Test
+    void 놓친_댓글이_한도를_넘으면_resync_이벤트를_보내고_실시간_댓글은_계속_전달한다() throws Exception {
+        // given : 마지막으로 받은 댓글 10 이후 6개
+        savedComments(1L, 11, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        hub.subscribe(1L, 10L, emitter);
+        hub.broadcast(1L, comment(17L));
+
+        // then
+        emitter.awaitEvents(2);
+        assertEquals(List.of(RecordingEmitter.RESYNC, 17L), emitter.ids);
+        assertEquals(1, hub.getStats().getResyncs());
+    }
+
+    @Test
+    void 아웃박스의_댓글_작성_이벤트를_구독자에게_전달한다() throws Exception {
+        // given
+        CommentStreamOutboxListener listener = new CommentStreamOutboxListener(hub, new ObjectMapper());
+        RecordingEmitter emitter = subscribe(1L, List.of());
+        String payload = new ObjectMapper().writeValueAsString(
+                new CommentCreatedEvent(21L, 1L, 1L, "user@test.com", "hello"));
+
+        // when
+        listener.onEvent(new OutboxMessage(1L, "Todo", 1L, CommentCreatedEvent.TYPE, payload, 0, LocalDateTime.now()));
+
+        // then
+        emitter.awaitEvents(1);
+        assertEquals(List.of(21L), emitter.ids);
+        assertTrue(listener.supports(CommentCreatedEvent.TYPE));
+        assertFalse(listener.supports("TODO_CREATED"));
+    }
+
+    // getCommentsAfter(todoId, afterId, limit) -> afterId 초과 id 를 limit 개까지
+    private void savedComments(long todoId, long fromId, long toId) {
+        given(commentService.getCommentsAfter(eq(todoId), anyLong(), anyInt())).willAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return LongStream.rangeClosed(Math.max(fromId, afterId + 1), toId)
+                    .limit(limit)
+                    .mapToObj(this::comment)
+                    .toList();
+        });
+    }
+
+    private RecordingEmitter subscribe(long todoId, List<CommentResponse> backlog) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.start(hub.register(todoId, emitter), backlog);
+        return emitter;
+    }
+
+    private CommentResponse comment(long id) {
+        return new CommentResponse(id, "contents" + id, new UserResponse(1L, "user@test.com"));
+    }
+
+    // 실제 소켓 대신 전송된 댓글 id 기록 (resync 는 RESYNC, block() 이후 전송은 unblock() 까지 대기 -> 읽지 않는 클라이언트)
+    static class RecordingEmitter extends SseEmitter {
+
+        static final long RESYNC = -1L;
+
+        private final List<Long> ids = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        void awaitSending() throws InterruptedException {
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (ids.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sending.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String text = items.iterator().next().getData().toString();
+            if (text.startsWith("event:resync")) {
+                ids.add(RESYNC);
+                return;
+            }
+            ids.add(Long.parseLong(text.substring(text.indexOf("id:") + 3, text.indexOf('\n')).trim()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.expert.domain.idempotency.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.idempotency.enums.IdempotencyStatus;
+import org.example.expert.domain.idempotency.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 같은 Idempotency-Key 요청이 한 번만 실행되고 이후에는 저장된 응답을 반환하는지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, IdempotencyStore.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+    }
+
+    @Test
+    void 같은_키로_다시_요청하면_실행하지_않고_저장된_응답을_반환한다() throws Throwable {
+        // when
+        String first = execute(idempotencyStore, "key-1", "hash", () -> "created-" + executions.incrementAndGet());
+        String second = execute(idempotencyStore, "key-1", "hash", () -> "created-" + executions.incrementAndGet());
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals("created-1", first);
+        assertEquals("replayed:created-1", second);
+        assertEquals(IdempotencyStatus.COMPLETED,
+                idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key-1").orElseThrow().getStatus());
+    }
+
+    @Test
+    void 동시에_들어온_같은_키_요청은_처음_요청의_결과를_기다린다() throws Exception {
+        // given : 첫 요청이 끝나기 전에 두 번째 요청 도착
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(task("key-2", () -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "created-" + executions.incrementAndGet();
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(task("key-2", () -> "created-" + executions.incrementAndGet()));
+
+            // when
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertEquals("created-1", first.get(5, TimeUnit.SECONDS));
+            assertEquals("replayed:created-1", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_예외가_발생한다() throws Throwable {
+        // given
+        execute(idempotencyStore, "key-3", "hash-a", () -> "created");
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> execute(idempotencyStore, "key-3", "hash-b", () -> "other"));
+    }
+
+    @Test
+    void 처리에_실패하면_키를_반납해_다시_시도할_수_있다() throws Throwable {
+        // given
+        assertThrows(IllegalStateException.class, () -> execute(idempotencyStore, "key-4", "hash", () -> {
+            throw new IllegalStateException("weather api down");
+        }));
+
+        // when
+        String retried = execute(idempotencyStore, "key-4", "hash", () -> "created-" + executions.incrementAndGet());
+
+        // then
+        assertEquals("created-1", retried);
+    }
+
+    @Test
+    void 메모리에_없는_키는_DB_에_저장된_응답을_반환한다() throws Throwable {
+        // given : 다른 서버(메모리 캐시가 비어 있는 인스턴스)
+        execute(idempotencyStore, "key-5", "hash", () -> "created-" + executions.incrementAndGet());
+        IdempotencyStore otherNode = new IdempotencyStore(idempotencyRecordRepository, jdbcTemplate,
+                100, Duration.ofDays(1), Duration.ofSeconds(5), Duration.ofMinutes(1));
+
+        // when
+        String replayed = execute(otherNode, "key-5", "hash", () -> "created-" + executions.incrementAndGet());
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals("replayed:created-1", replayed);
+    }
+
+    @Test
+    void 만료된_키는_정리_전이라도_저장된_응답을_쓰지_않고_새로_처리한다() throws Throwable {
+        // given : 처리 완료 후 만료 (정리 작업은 아직 실행 전), 메모리 캐시가 비어 있는 인스턴스
+        execute(idempotencyStore, "key-6", "hash", () -> "created-" + executions.incrementAndGet());
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = ? WHERE idempotency_key = 'key-6'",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+        IdempotencyStore otherNode = new IdempotencyStore(idempotencyRecordRepository, jdbcTemplate,
+                100, Duration.ofDays(1), Duration.ofSeconds(5), Duration.ofMinutes(1));
+
+        // when : 다른 요청 본문이어도 만료된 키이므로 400 이 아님
+        String recreated = execute(otherNode, "key-6", "other-hash", () -> "created-" + executions.incrementAndGet());
+
+        // then
+        assertEquals(2, executions.get());
+        assertEquals("created-2", recreated);
+        assertEquals("other-hash",
+                idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key-6").orElseThrow().getRequestHash());
+    }
+
+    @Test
+    void 정리_작업은_만료된_키만_삭제한다() throws Throwable {
+        // given
+        for (int i = 0; i < 3; i++) {
+            execute(idempotencyStore, "expired-" + i, "hash", () -> "created");
+        }
+        execute(idempotencyStore, "active", "hash", () -> "created");
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = ? WHERE idempotency_key LIKE 'expired-%'",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+
+        // when
+        idempotencyStore.cleanUp();
+
+        // then
+        assertEquals(List.of("active"),
+                jdbcTemplate.queryForList("SELECT idempotency_key FROM idempotency_keys", String.class));
+    }
+
+    private Callable<String> task(String key, IdempotencyStore.Action<String> action) {
+        return () -> {
+            try {
+                return execute(idempotencyStore, key, "hash", action);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private String execute(IdempotencyStore store, String key, String requestHash, IdempotencyStore.Action<String> action)
+            throws Throwable {
+        return store.execute(1L, key, requestHash, action,
+                result -> new StoredResponse(200, result),
+                stored -> "replayed:" + stored.getBody());
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.expert.domain.outbox.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.outbox.entity.OutboxEvent;
+import org.example.expert.domain.outbox.enums.OutboxStatus;
+import org.example.expert.domain.outbox.event.DomainEvent;
+import org.example.expert.domain.outbox.event.OutboxEventListener;
+import org.example.expert.domain.outbox.event.OutboxMessage;
+import org.example.expert.domain.outbox.repository.OutboxEventRepository;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 아웃박스 저장 -> 배치 전달 -> 재시도/실패 처리, SKIP LOCKED 로 잠긴 행 건너뛰기 확인
+// 디스패처가 자체 트랜잭션을 쓰므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PersistenceConfig.class, ShardTemplate.class, OutboxEventPublisher.class, OutboxDispatcher.class, OutboxDispatcherTest.ListenerConfig.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "outbox.max-attempts=2",
+        "outbox.retry-backoff=0s"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private RecordingListener listener;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+        listener.received.clear();
+        listener.failing = false;
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_이벤트를_발행할_수_없다() {
+        // when & then
+        assertThrows(IllegalTransactionStateException.class, () -> outboxEventPublisher.publish(event(1)));
+    }
+
+    @Test
+    void 커밋된_이벤트를_id_순서대로_전달하고_완료_처리한다() {
+        // given
+        publish(1, 2, 3);
+
+        // when
+        outboxDispatcher.dispatch();
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), listener.received.stream().map(OutboxMessage::getAggregateId).toList());
+        assertEquals("{\"todoId\":1,\"userId\":10,\"title\":\"title1\",\"weather\":\"Sunny\"}",
+                listener.received.get(0).getPayload());
+        assertEquals(3, outboxEventRepository.countByStatus(OutboxStatus.DISPATCHED));
+        assertEquals(0, outboxDispatcher.getStats().getPending());
+    }
+
+    @Test
+    void 리스너가_실패하면_재시도하고_최대_횟수를_넘으면_FAILED_로_바꾼다() {
+        // given
+        publish(1);
+        listener.failing = true;
+
+        // when
+        outboxDispatcher.dispatch();
+        OutboxEvent afterFirst = outboxEventRepository.findAll().get(0);
+        outboxDispatcher.dispatch();
+        OutboxEvent afterSecond = outboxEventRepository.findAll().get(0);
+
+        // then
+        assertEquals(OutboxStatus.PENDING, afterFirst.getStatus());
+        assertEquals(1, afterFirst.getAttempts());
+        assertEquals(OutboxStatus.FAILED, afterSecond.getStatus());
+        assertEquals("listener down", afterSecond.getLastError());
+        assertEquals(1, outboxEventRepository.retryFailed(LocalDateTime.now()));
+    }
+
+    @Test
+    void 다른_트랜잭션이_잠근_행은_건너뛰고_나머지만_전달한다() throws Exception {
+        // given
+        publish(1, 2, 3);
+        long firstId = outboxEventRepository.findAll().stream().mapToLong(OutboxEvent::getId).min().orElseThrow();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 다른 디스패처가 첫 번째 행을 처리 중인 상황
+        CompletableFuture<Void> otherDispatcher = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.queryForList("SELECT id FROM outbox_events WHERE id = ? FOR UPDATE", firstId);
+                    locked.countDown();
+                    await(release);
+                }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // when
+        outboxDispatcher.dispatch();
+        release.countDown();
+        otherDispatcher.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(List.of(2L, 3L), listener.received.stream().map(OutboxMessage::getAggregateId).toList());
+        assertEquals(1, outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+    }
+
+    @Test
+    void 받을_리스너가_없는_이벤트_종류는_저장하지_않는다() {
+        // given
+        DomainEvent unconsumed = new DomainEvent() {
+            @Override
+            public String getAggregateType() {
+                return "Todo";
+            }
+
+            @Override
+            public Long getAggregateId() {
+                return 1L;
+            }
+
+            @Override
+            public String getEventType() {
+                return RecordingListener.IGNORED_TYPE;
+            }
+        };
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxEventPublisher.publish(unconsumed);
+            outboxEventPublisher.publish(event(2));
+        });
+
+        // then
+        assertEquals(List.of(TodoCreatedEvent.TYPE),
+                outboxEventRepository.findAll().stream().map(OutboxEvent::getEventType).toList());
+    }
+
+    private void publish(long... todoIds) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (long todoId : todoIds) {
+                outboxEventPublisher.publish(event(todoId));
+            }
+        });
+    }
+
+    private TodoCreatedEvent event(long todoId) {
+        return new TodoCreatedEvent(todoId, 10L, "title" + todoId, "Sunny");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class ListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener implements OutboxEventListener {
+
+        static final String IGNORED_TYPE = "IGNORED";
+
+        private final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public boolean supports(String eventType) {
+            return !IGNORED_TYPE.equals(eventType);
+        }
+
+        @Override
+        public void onEvent(OutboxMessage message) {
+            if (failing) {
+                throw new IllegalStateException("listener down");
+            }
+            received.add(message);
+        }
+    }
+}
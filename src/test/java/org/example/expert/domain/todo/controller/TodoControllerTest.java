@@ -1,10 +1,12 @@
 package org.example.expert.domain.todo.controller;
 
+import org.example.expert.config.ratelimit.RateLimitFilter;
 import org.example.expert.config.security.JwtAuthenticationFilter;
 import org.example.expert.config.security.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoListResponseCache;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -34,12 +36,18 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoListResponseCache todoListResponseCache;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private RateLimitFilter rateLimitFilter;
+
     @Test
     // 참고) @WithMockUser : Spring Security 테스트용 어노테이션
     // -> 가짜 사용자(mock user) 만들어서 테스트 환경에서 인증된 사용자처럼 동작하게 해줌
@@ -0,0 +1,139 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.ratelimit.RateLimitFilter;
+import org.example.expert.config.security.JwtAuthenticationFilter;
+import org.example.expert.config.security.JwtUtil;
+import org.example.expert.config.singleflight.SingleFlightRegistry;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoListResponseCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 실제 TodoListResponseCache 로 GET /todos 1페이지를 직렬화된 바이트 그대로 응답하는지 확인
+@WebMvcTest(controllers = TodoController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({TodoListResponseCache.class, SingleFlightRegistry.class})
+@TestPropertySource(properties = "todo.list-cache.gzip.min-bytes=1")
+class TodoListCacheControllerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TodoListResponseCache todoListResponseCache;
+
+    @MockBean
+    private TodoService todoService;
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    @MockBean
+    private JwtUtil jwtUtil;
+    @MockBean
+    private RateLimitFilter rateLimitFilter;
+
+    // 컨텍스트(캐시)는 테스트 사이에 공유됨 -> 이전 테스트가 캐시한 페이지 무효화
+    @BeforeEach
+    void setUp() {
+        todoListResponseCache.bumpVersion();
+    }
+
+    @Test
+    void gzip_을_허용하면_압축된_바이트를_그대로_보내고_풀면_일반_JSON_과_같다() throws Exception {
+        // given
+        PageResponse<TodoResponse> page = page();
+        given(todoService.getTodos(isNull(), isNull(), isNull(), eq(1), eq(10))).willReturn(page);
+        byte[] json = objectMapper.writeValueAsBytes(page);
+
+        // when
+        MvcResult gzipped = mockMvc.perform(get("/todos").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        MvcResult plain = mockMvc.perform(get("/todos"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        // then : 두 번째 요청은 캐시에서 (조회 1번)
+        assertArrayEquals(json, gunzip(gzipped.getResponse().getContentAsByteArray()));
+        assertArrayEquals(json, plain.getResponse().getContentAsByteArray());
+        verify(todoService, times(1)).getTodos(isNull(), isNull(), isNull(), eq(1), eq(10));
+    }
+
+    @Test
+    void Accept_Encoding_의_q0_과_와일드카드를_구분한다() throws Exception {
+        // given
+        given(todoService.getTodos(isNull(), isNull(), isNull(), eq(1), eq(10))).willReturn(page());
+
+        // when & then
+        assertNull(contentEncoding("gzip;q=0"));
+        assertNull(contentEncoding("gzip; q=0.0, deflate"));
+        assertNull(contentEncoding("identity"));
+        assertNull(contentEncoding("*, gzip;q=0"));
+        assertNull(contentEncoding("*;q=0"));
+        assertEquals("gzip", contentEncoding("*"));
+        assertEquals("gzip", contentEncoding("deflate, *;q=0.5"));
+        assertEquals("gzip", contentEncoding("gzip;q=0.8"));
+    }
+
+    private String contentEncoding(String acceptEncoding) throws Exception {
+        return mockMvc.perform(get("/todos").header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+    private static PageResponse<TodoResponse> page() {
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny",
+                new UserResponse(1L, "user@test.com"), NOW, NOW);
+        return new PageResponse<>(List.of(todo), 1, 10, 1, 1, false);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.sharding.ShardTemplate;
+import org.example.expert.domain.todo.dto.response.TodoFacetResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoDailyStat;
+import org.example.expert.domain.todo.repository.TodoDailyStatRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Flyway 스키마(H2 MySQL 모드)에서 요약 테이블 upsert 와 todos GROUP BY 집계 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, ShardTemplate.class, TodoFacetService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-facets;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class TodoFacetServiceTest {
+
+    @Autowired
+    private TodoFacetService todoFacetService;
+    @Autowired
+    private TodoDailyStatRepository todoDailyStatRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 같은_날짜와_날씨로_여러번_증가하면_한_행에_누적된다() {
+        // given
+        LocalDate date = LocalDate.of(2024, 2, 10);
+
+        // when
+        todoDailyStatRepository.increment(date, "Sunny");
+        todoDailyStatRepository.increment(date, "Sunny");
+        todoDailyStatRepository.increment(date, "Rainy");
+        todoDailyStatRepository.increment(date.plusDays(1), "Sunny");
+        TodoFacetResponse response = todoFacetService.getMonthlyFacets(2024, 2);
+
+        // then
+        assertEquals(4, response.getTotal());
+        assertEquals(29, response.getDays().size());
+        assertEquals(3, response.getDays().get(9).getCount());
+        assertEquals(1, response.getDays().get(10).getCount());
+        assertEquals("Sunny", response.getWeathers().get(0).getWeather());
+        assertEquals(3, response.getWeathers().get(0).getCount());
+    }
+
+    @Test
+    void 재계산하면_todos_집계_결과로_요약_테이블을_덮어쓴다() {
+        // given
+        User user = userRepository.save(new User("facet@test.com", "password", UserRole.ROLE_USER, "facet"));
+        todoRepository.saveAll(List.of(
+                new Todo("a", "a", "Sunny", user),
+                new Todo("b", "b", "Sunny", user),
+                new Todo("c", "c", null, user)
+        ));
+        LocalDate today = LocalDate.now();
+        // 실제와 다른 값이 들어 있는 상태
+        todoDailyStatRepository.saveAndFlush(new TodoDailyStat(today, "Sunny", 100));
+
+        // when
+        TodoFacetResponse response = todoFacetService.rebuildMonthlyFacets(today.getYear(), today.getMonthValue());
+
+        // then
+        assertEquals(3, response.getTotal());
+        assertEquals(3, response.getDays().get(today.getDayOfMonth() - 1).getCount());
+        List<TodoDailyStat> stats = todoDailyStatRepository.findByStatDateBetween(today, today);
+        assertEquals(2, stats.size());
+        assertEquals(3, stats.stream().mapToLong(TodoDailyStat::getTodoCount).sum());
+    }
+}
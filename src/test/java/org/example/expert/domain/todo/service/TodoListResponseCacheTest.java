@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.singleflight.SingleFlightRegistry;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoListResponseCache.SerializedPage;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// 필터 정규화, 쓰기 버전 무효화, 직렬화/gzip 바이트 확인
+class TodoListResponseCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final TodoListResponseCache cache = new TodoListResponseCache(
+            objectMapper, new SingleFlightRegistry(true), true, 10, 256, Duration.ofMinutes(1), true, 1);
+
+    @Test
+    void 일페이지_기본_size_의_필터없음과_weather_만_캐시_대상이다() {
+        // when & then
+        assertEquals("all", cache.keyOf(null, null, null, 1, 10));
+        assertEquals("all", cache.keyOf("", null, NOW, 1, 10));
+        // weather 가 있으면 기간은 무시 (TodoService.findTodos 와 같은 우선순위)
+        assertEquals("weather:Sunny", cache.keyOf("Sunny", NOW, NOW, 1, 10));
+        assertNull(cache.keyOf(null, NOW.minusDays(1), NOW, 1, 10));
+        assertNull(cache.keyOf(null, null, null, 2, 10));
+        assertNull(cache.keyOf("Sunny", null, null, 1, 20));
+    }
+
+    @Test
+    void 쓰기_버전이_바뀌기_전까지는_같은_바이트를_돌려준다() throws IOException {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<PageResponse<TodoResponse>> loader = () -> page(loads.incrementAndGet());
+
+        // when
+        SerializedPage first = cache.get("all", loader);
+        SerializedPage second = cache.get("all", loader);
+        cache.bumpVersion();
+        SerializedPage third = cache.get("all", loader);
+
+        // then
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+        assertArrayEquals(objectMapper.writeValueAsBytes(page(1)), first.getJson());
+        assertArrayEquals(objectMapper.writeValueAsBytes(page(2)), third.getJson());
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(third.getGzip()))) {
+            assertArrayEquals(third.getJson(), gzip.readAllBytes());
+        }
+    }
+
+    private static PageResponse<TodoResponse> page(long todoId) {
+        TodoResponse todo = new TodoResponse(todoId, "title", "contents", "Sunny",
+                new UserResponse(1L, "user@test.com"), NOW, NOW);
+        return new PageResponse<>(List.of(todo), 1, 10, 1, 1, false);
+    }
+}
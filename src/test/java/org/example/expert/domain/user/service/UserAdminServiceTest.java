@@ -0,0 +1,80 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRolesChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRolesChangeResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Flyway 스키마(H2 MySQL 모드)에서 청크 단위 일괄 권한 변경 확인 (chunk-size=2 로 여러 청크)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, UserProfileCache.class, UserAdminService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-admin;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "user.bulk-role-change.chunk-size=2",
+        "user.bulk-role-change.max-users=10"
+})
+class UserAdminServiceTest {
+
+    @Autowired
+    private UserAdminService userAdminService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 여러_유저의_권한을_청크별로_변경하고_없는_id는_따로_돌려준다() {
+        // given
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            userIds.add(userRepository.save(new User("bulk" + i + "@test.com", "password", UserRole.ROLE_USER, "bulk" + i)).getId());
+        }
+        User untouched = userRepository.save(new User("other@test.com", "password", UserRole.ROLE_USER, "other"));
+        long missingId = untouched.getId() + 100;
+        List<Long> requested = new ArrayList<>(userIds);
+        requested.add(missingId);
+        requested.add(userIds.get(0));
+
+        // when
+        UserRolesChangeResponse response = userAdminService.changeUserRoles(new UserRolesChangeRequest(requested, "role_admin"));
+
+        // then
+        assertEquals("ROLE_ADMIN", response.getRole());
+        assertEquals(userIds, response.getChangedUserIds());
+        assertEquals(List.of(missingId), response.getNotFoundUserIds());
+        userIds.forEach(userId -> assertEquals(UserRole.ROLE_ADMIN, userRepository.findById(userId).orElseThrow().getUserRole()));
+        assertEquals(UserRole.ROLE_USER, userRepository.findById(untouched.getId()).orElseThrow().getUserRole());
+    }
+
+    @Test
+    void 최대_인원을_넘거나_id가_없으면_예외가_발생한다() {
+        // given
+        List<Long> tooMany = LongStream.rangeClosed(1, 11).boxed().toList();
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> userAdminService.changeUserRoles(new UserRolesChangeRequest(tooMany, "ROLE_ADMIN")));
+        assertThrows(InvalidRequestException.class,
+                () -> userAdminService.changeUserRoles(new UserRolesChangeRequest(List.of(), "ROLE_ADMIN")));
+        assertThrows(InvalidRequestException.class,
+                () -> userAdminService.changeUserRoles(new UserRolesChangeRequest(List.of(1L), "ROLE_OWNER")));
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 프로필 캐시 적중/미스, 권한 변경 시 제거, 트랜잭션 안에서는 커밋 후에만 제거되는지 확인
+// (트랜잭션은 TransactionSynchronizationManager 로 직접 열고 커밋/롤백 콜백을 호출)
+class UserProfileCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserProfileCache userProfileCache = new UserProfileCache(100, Duration.ofMinutes(10));
+    private final UserService userService = new UserService(
+            userRepository, mock(PasswordEncoder.class), userProfileCache, mock(UserSearchIndex.class));
+    @SuppressWarnings("unchecked")
+    private final UserAdminService userAdminService = new UserAdminService(
+            userRepository, userProfileCache, mock(ObjectProvider.class), 500, 1000);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 두_번째_조회는_캐시에서_반환하고_DB를_다시_조회하지_않는다() {
+        // given
+        given(userRepository.findProfileById(1L)).willReturn(Optional.of(new UserResponse(1L, "user@test.com")));
+
+        // when
+        UserResponse first = userService.getUser(1L);
+        UserResponse second = userService.getUser(1L);
+
+        // then
+        assertEquals("user@test.com", first.getEmail());
+        assertSame(first, second);
+        verify(userRepository, times(1)).findProfileById(1L);
+        assertEquals(1, userProfileCache.getStats().getHitCount());
+        assertEquals(1, userProfileCache.getStats().getMissCount());
+    }
+
+    @Test
+    void 없는_유저는_캐시하지_않는다() {
+        // given
+        given(userRepository.findProfileById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> userService.getUser(1L));
+        assertThrows(InvalidRequestException.class, () -> userService.getUser(1L));
+        verify(userRepository, times(2)).findProfileById(1L);
+        assertEquals(0, userProfileCache.getStats().getSize());
+    }
+
+    @Test
+    void 권한을_변경하면_프로필_캐시에서_제거된다() {
+        // given
+        cacheProfile(1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(new User("user@test.com", "password", UserRole.ROLE_USER, "user")));
+
+        // when : 트랜잭션 밖 -> 바로 제거
+        userAdminService.changeUserRole(1L, new UserRoleChangeRequest("ROLE_ADMIN"));
+        userService.getUser(1L);
+
+        // then
+        verify(userRepository, times(2)).findProfileById(1L);
+    }
+
+    @Test
+    void 트랜잭션_안에서_제거하면_커밋_후에만_캐시에서_빠진다() {
+        // given
+        cacheProfile(1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(new User("user@test.com", "password", UserRole.ROLE_USER, "user")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        userAdminService.changeUserRole(1L, new UserRoleChangeRequest("ROLE_ADMIN"));
+        userService.getUser(1L);
+        // 커밋 전 : 아직 캐시에 남아 있음 (다른 요청이 변경 전 값을 다시 올리지 않도록)
+        verify(userRepository, times(1)).findProfileById(1L);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        userService.getUser(1L);
+
+        // then
+        verify(userRepository, times(2)).findProfileById(1L);
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_캐시에서_제거하지_않는다() {
+        // given
+        cacheProfile(1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(new User("user@test.com", "password", UserRole.ROLE_USER, "user")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        userAdminService.changeUserRole(1L, new UserRoleChangeRequest("ROLE_ADMIN"));
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+        userService.getUser(1L);
+
+        // then
+        verify(userRepository, times(1)).findProfileById(1L);
+    }
+
+    private void cacheProfile(long userId) {
+        given(userRepository.findProfileById(userId)).willReturn(Optional.of(new UserResponse(userId, "user@test.com")));
+        userService.getUser(userId);
+    }
+}
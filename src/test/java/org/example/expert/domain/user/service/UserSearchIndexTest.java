@@ -0,0 +1,95 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.projection.UserSearchView;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class UserSearchIndexTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserSearchIndex index = new UserSearchIndex(userRepository, 20);
+
+    @Test
+    void 접두사로_닉네임과_이메일을_사전순으로_찾는다() {
+        // given
+        index.add(1L, "zeta@test.com", "alice");
+        index.add(2L, "alpha@test.com", "bob");
+        index.add(3L, "carol@test.com", "alicia");
+        index.add(4L, "dave@test.com", "al");
+
+        // when
+        List<UserSearchResponse> result = index.search("al", 10);
+        List<UserSearchResponse> limited = index.search("al", 2);
+
+        // then : al(4) -> alice(1) -> alicia(3) -> alpha@(2)
+        assertEquals(List.of(4L, 1L, 3L, 2L), ids(result));
+        assertEquals(List.of(4L, 1L), ids(limited));
+        assertTrue(index.search("alx", 10).isEmpty());
+    }
+
+    @Test
+    void 세글자_이상이면_중간_문자열도_찾고_대소문자를_무시한다() {
+        // given
+        index.add(1L, "first@test.com", "MoonWalker");
+        index.add(2L, "second@test.com", "walkie");
+        index.add(3L, "walker@test.com", "runner");
+
+        // when
+        List<UserSearchResponse> result = index.search("WALK", 10);
+        List<UserSearchResponse> infixOnly = index.search("nwal", 10);
+
+        // then : 접두사 일치(walker@ -> walkie 사전순) 다음 부분 문자열 일치
+        assertEquals(List.of(3L, 2L, 1L), ids(result));
+        assertEquals(List.of(1L), ids(infixOnly));
+        assertEquals("MoonWalker", infixOnly.get(0).getNickname());
+    }
+
+    @Test
+    void 기동_적재는_id_순으로_페이징하고_같은_유저는_한번만_색인된다() {
+        // given
+        given(userRepository.findSearchViewsByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .willReturn(List.of(view(1L, "a@test.com", "apple"), view(2L, "b@test.com", "apricot")));
+        index.add(2L, "b@test.com", "apricot");
+
+        // when
+        index.load();
+
+        // then
+        assertEquals(2, index.size());
+        assertEquals(List.of(1L, 2L), ids(index.search("ap", 10)));
+    }
+
+    private static List<Long> ids(List<UserSearchResponse> responses) {
+        return responses.stream().map(UserSearchResponse::getId).toList();
+    }
+
+    private static UserSearchView view(Long id, String email, String nickname) {
+        return new UserSearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+}